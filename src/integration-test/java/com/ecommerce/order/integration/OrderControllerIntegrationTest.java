@@ -1,9 +1,12 @@
 package com.ecommerce.order.integration;
 
+import com.ecommerce.order.archive.OrderArchiver;
 import com.ecommerce.order.model.dto.request.CreateOrderRequest;
 import com.ecommerce.order.model.dto.request.LoginRequest;
 import com.ecommerce.order.model.dto.response.JwtResponse;
+import com.ecommerce.order.model.entity.Order;
 import com.ecommerce.order.model.entity.User;
+import com.ecommerce.order.model.enums.OrderStatus;
 import com.ecommerce.order.repository.OrderRepository;
 import com.ecommerce.order.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,8 +29,10 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -55,6 +60,9 @@ class OrderControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private OrderArchiver orderArchiver;
+
     private String accessToken;
     private User testUser;
 
@@ -268,4 +276,116 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.pageable").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchOrders_ByProductAndStatuses_ShouldReturnMatchingOrders() throws Exception {
+        // Given
+        CreateOrderRequest.OrderItemRequest item = CreateOrderRequest.OrderItemRequest.builder()
+                .productId("PROD042")
+                .productName("Search Product")
+                .quantity(1)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId("CUST001")
+                .items(List.of(item))
+                .shippingAddress("123 Test St")
+                .paymentMethod("CREDIT_CARD")
+                .build();
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/search")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("productId", "PROD042")
+                        .param("status", "PENDING,PROCESSING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].items[0].productId").value("PROD042"));
+
+        mockMvc.perform(get("/api/v1/orders/search")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("productId", "PROD042")
+                        .param("status", "SHIPPED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void searchOrders_WithUnindexedSortField_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/search")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("sortBy", "notes"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportOrders_WithInvalidDate_ShouldReturn400BeforeStreaming() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/export")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("format", "csv")
+                        .param("startDate", "2024-13-01"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getOrder_WhenArchived_ShouldReadThroughArchive() throws Exception {
+        // Given - two orders for one customer, the older one delivered and archived
+        CreateOrderRequest.OrderItemRequest item = CreateOrderRequest.OrderItemRequest.builder()
+                .productId("PROD007")
+                .productName("Archived Product")
+                .quantity(3)
+                .unitPrice(new BigDecimal("15.00"))
+                .build();
+
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId("CUST-ARCHIVE")
+                .items(List.of(item))
+                .build();
+
+        String[] orderIds = new String[2];
+        for (int i = 0; i < orderIds.length; i++) {
+            MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            orderIds[i] = objectMapper.readTree(createResult.getResponse().getContentAsString())
+                    .get("orderId").asText();
+        }
+
+        Order delivered = orderRepository.findById(UUID.fromString(orderIds[0])).orElseThrow();
+        delivered.setStatus(OrderStatus.DELIVERED);
+        orderRepository.saveAndFlush(delivered);
+
+        // When
+        int archived = orderArchiver.archiveBatch(LocalDateTime.now().plusMinutes(1), 100);
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(orderRepository.existsById(UUID.fromString(orderIds[0]))).isFalse();
+
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderIds[0])
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DELIVERED"))
+                .andExpect(jsonPath("$.items[0].productId").value("PROD007"));
+
+        mockMvc.perform(get("/api/v1/orders/customer/{customerId}", "CUST-ARCHIVE")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].orderId").value(orderIds[1]))
+                .andExpect(jsonPath("$.content[1].orderId").value(orderIds[0]));
+    }
+}
@@ -0,0 +1,358 @@
+package com.ecommerce.order.integration;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.repository.ArchivedOrderRepository;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.search.OrderSearchCriteria;
+import com.ecommerce.order.search.OrderSpecifications;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls each hot repository query against a realistically skewed table, captures the SQL
+ * and bind values it actually sent, and runs {@code EXPLAIN} on them to check the planner
+ * picks the index built for that shape and skips the monthly partitions outside the
+ * query's date bounds.
+ */
+@SpringBootTest
+@Import(StatementCapture.class)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderQueryPlanIntegrationTest {
+
+    private static final String CUSTOMER_ID = "PLAN-00042";
+    private static final UUID LAST_ORDER_ID = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    private TransactionTemplate transactionTemplate;
+
+    private UUID customerOrderId;
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeAll
+    void seedOrders() {
+        jdbcTemplate.execute("""
+            SELECT create_order_partition((date_trunc('month', LOCALTIMESTAMP) - m * INTERVAL '1 month')::date)
+            FROM generate_series(0, 12) AS m
+            """);
+        // 200k orders over a year for 2000 customers; 1% pending and 1% cancelled, as in production
+        jdbcTemplate.execute("""
+            INSERT INTO orders (customer_id, status, total_amount, payment_status, created_at, updated_at, cancelled_at)
+            SELECT 'PLAN-' || lpad((i % 2000)::text, 5, '0'),
+                   CASE i % 100 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CANCELLED' ELSE 'DELIVERED' END,
+                   (i % 500) + 9.99,
+                   'PAID',
+                   LOCALTIMESTAMP - (i % 525600) * INTERVAL '1 minute',
+                   LOCALTIMESTAMP - (i % 525600) * INTERVAL '1 minute',
+                   CASE i % 100 WHEN 1 THEN LOCALTIMESTAMP - (i % 525600) * INTERVAL '1 minute' + INTERVAL '1 hour' END
+            FROM generate_series(1, 200000) AS i
+            """);
+        // 50k archived orders older than a year for the same customers
+        jdbcTemplate.execute("""
+            INSERT INTO order_archive (order_id, customer_id, status, total_amount, created_at, archived_at, document)
+            SELECT gen_random_uuid(),
+                   'PLAN-' || lpad((i % 2000)::text, 5, '0'),
+                   'DELIVERED',
+                   (i % 500) + 9.99,
+                   LOCALTIMESTAMP - INTERVAL '1 year' - (i % 525600) * INTERVAL '1 minute',
+                   LOCALTIMESTAMP,
+                   '\\x00'::bytea
+            FROM generate_series(1, 50000) AS i
+            """);
+        // One item per order
+        jdbcTemplate.execute("""
+            INSERT INTO order_items (order_id, order_created_at, product_id, product_name, quantity, unit_price, subtotal)
+            SELECT order_id, created_at, 'PROD' || (abs(hashtext(order_id::text)) % 1000), 'Product', 1, total_amount, total_amount
+            FROM orders
+            """);
+        jdbcTemplate.execute("ANALYZE orders");
+        jdbcTemplate.execute("ANALYZE order_items");
+        jdbcTemplate.execute("ANALYZE order_archive");
+        customerOrderId = jdbcTemplate.queryForObject(
+                "SELECT order_id FROM orders WHERE customer_id = ? LIMIT 1", UUID.class, CUSTOMER_ID);
+    }
+
+    @Test
+    void findByCustomerId_ShouldReadIndexInSortOrder() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findByCustomerId(
+                CUSTOMER_ID, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_customer_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+    }
+
+    @Test
+    void findCustomerHistoryAfter_ShouldMergeHotAndArchivedIndexesInSortOrder() {
+        // When
+        Plan plan = explainQuery(() -> archivedOrderRepository.findCustomerHistoryAfter(
+                CUSTOMER_ID, LocalDateTime.now().minusDays(30), LAST_ORDER_ID, 21));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_customer_created", "idx_order_archive_customer_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+        assertThat(plan.filters()).isEmpty();
+    }
+
+    @Test
+    void countByCustomerId_ShouldUseCustomerIndex() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.countByCustomerId(CUSTOMER_ID));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_customer_created");
+    }
+
+    @Test
+    void existsByOrderIdAndCustomerId_ShouldUsePrimaryKey() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.existsByOrderIdAndCustomerId(customerOrderId, CUSTOMER_ID));
+
+        // Then
+        assertThat(plan.indexNames()).contains("orders_pkey");
+    }
+
+    @Test
+    void findByIdWithItems_ShouldProbeOrderAndItemIndexes() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findByIdWithItems(customerOrderId));
+
+        // Then
+        assertThat(plan.indexNames()).contains("orders_pkey", "idx_order_item_order_id");
+        assertThat(plan.nodeTypes()).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void findOrdersForStatusUpdate_ShouldUsePendingPartialIndex() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findOrdersForStatusUpdate(LocalDateTime.now().minusHours(1), 100));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_pending_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+    }
+
+    @Test
+    void findPendingOrdersOlderThan_ShouldUsePendingPartialIndex() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findPendingOrdersOlderThan(LocalDateTime.now().minusHours(1)));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_pending_created");
+    }
+
+    @Test
+    void findByCreatedAtBetween_ShouldScanOnlyThatMonth() {
+        // Given
+        YearMonth month = YearMonth.now().minusMonths(2);
+
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findByCreatedAtBetween(
+                month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        // Then
+        assertThat(plan.relationNames()).containsOnly(partitionName(2));
+    }
+
+    @Test
+    void findPageAfter_ShouldStartIndexScanAtCursor() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findPageAfter(
+                LocalDateTime.now().minusDays(30), LAST_ORDER_ID, PageRequest.ofSize(21)));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_created_at");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+        assertThat(plan.filters()).isEmpty();
+    }
+
+    @Test
+    void findPageByStatusAfter_ShouldStartIndexScanAtCursor() {
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findPageByStatusAfter(
+                OrderStatus.DELIVERED, LocalDateTime.now().minusDays(30), LAST_ORDER_ID, PageRequest.ofSize(21)));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_status_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+        assertThat(plan.filters()).isEmpty();
+    }
+
+    @Test
+    void searchBySpecification_ShouldReadCustomerIndexInSortOrder() {
+        // Given
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().customerId(CUSTOMER_ID).build();
+        Sort sort = OrderSpecifications.indexedSort(Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findAll(
+                OrderSpecifications.matching(criteria), PageRequest.of(0, 20, sort)));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_customer_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+    }
+
+    @Test
+    void scrollBySpecification_ShouldStartIndexScanAtCursor() {
+        // Given
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().statuses(Set.of(OrderStatus.DELIVERED)).build();
+        Specification<Order> specification = OrderSpecifications.matching(criteria)
+                .and(OrderSpecifications.after(LocalDateTime.now().minusDays(30), LAST_ORDER_ID));
+
+        // When
+        Plan plan = explainQuery(() -> orderRepository.findBy(specification, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "orderId"))
+                .limit(21)
+                .all()));
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_status_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+        assertThat(plan.filters()).isEmpty();
+    }
+
+    @Test
+    void streamSearchOrders_ShouldReadCustomerIndexInExportOrder() {
+        // Given
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().customerId(CUSTOMER_ID).build();
+
+        // When
+        Plan plan = explainQuery(() -> {
+            try (Stream<Order> orders = orderRepository.streamSearchOrders(criteria)) {
+                orders.findFirst();
+            }
+        });
+
+        // Then
+        assertThat(plan.indexNames()).contains("idx_order_customer_created");
+        assertThat(plan.nodeTypes()).doesNotContain("Sort", "Incremental Sort");
+    }
+
+    private String partitionName(int monthsAgo) {
+        return "orders_p" + YearMonth.now().minusMonths(monthsAgo).format(DateTimeFormatter.ofPattern("uuuu_MM"));
+    }
+
+    /**
+     * Runs the repository call in a read-write transaction, as the services do, and explains
+     * the first query it issued with the values it bound. The count query of a page is only
+     * explained when the call issued nothing else.
+     */
+    private Plan explainQuery(Runnable repositoryCall) {
+        List<StatementCapture.CapturedStatement> statements = statementCapture.capture(
+                () -> transactionTemplate.executeWithoutResult(status -> repositoryCall.run()));
+        StatementCapture.CapturedStatement query = statements.stream()
+                .filter(statement -> !statement.sql().trim().toLowerCase().startsWith("select count"))
+                .findFirst()
+                .or(() -> statements.stream().findFirst())
+                .orElseThrow(() -> new IllegalStateException("Repository call issued no query"));
+        return explain(query.sql(), query.binds().toArray());
+    }
+
+    private Plan explain(String sql, Object... binds) {
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, binds);
+        try {
+            Plan plan = new Plan(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+            collect(objectMapper.readTree(json).get(0).get("Plan"), plan);
+            return plan;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + json, e);
+        }
+    }
+
+    private void collect(JsonNode node, Plan plan) {
+        plan.nodeTypes().add(node.path("Node Type").asText());
+        if (node.has("Index Name")) {
+            plan.indexNames().add(parentIndex(node.get("Index Name").asText()));
+        }
+        if (node.has("Filter")) {
+            plan.filters().add(node.get("Filter").asText());
+        }
+        if (node.has("Relation Name")) {
+            plan.relationNames().add(node.get("Relation Name").asText());
+        }
+        node.path("Plans").forEach(child -> collect(child, plan));
+    }
+
+    // Plans name the per-partition copy of an index; report the index declared on orders instead
+    private String parentIndex(String indexName) {
+        List<String> parents = jdbcTemplate.queryForList(
+                "SELECT inhparent::regclass::text FROM pg_inherits WHERE inhrelid = ?::regclass",
+                String.class, indexName);
+        return parents.isEmpty() ? indexName : parents.get(0);
+    }
+
+    private record Plan(List<String> nodeTypes, List<String> indexNames, List<String> relationNames,
+                        List<String> filters) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.order.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two independent Postgres instances stand in for primary and replica; the database name
+ * tells which one served a transaction.
+ */
+@SpringBootTest
+@Testcontainers
+class ReadReplicaRoutingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("primarydb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("replicadb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("app.datasource.replicas.enabled", () -> "true");
+        registry.add("app.datasource.replicas.urls", replica::getJdbcUrl);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        // When
+        String database = currentDatabase(true);
+
+        // Then
+        assertThat(database).isEqualTo("replicadb");
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        // When
+        String database = currentDatabase(false);
+
+        // Then
+        assertThat(database).isEqualTo("primarydb");
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOwnWrite_ShouldUsePrimary() {
+        // Given - alice commits a write
+        authenticateAs("alice");
+        currentDatabase(false);
+
+        // When
+        String aliceReads = currentDatabase(true);
+        authenticateAs("bob");
+        String bobReads = currentDatabase(true);
+
+        // Then
+        assertThat(aliceReads).isEqualTo("primarydb");
+        assertThat(bobReads).isEqualTo("replicadb");
+    }
+
+    @Test
+    void queryOutsideTransaction_ShouldUsePrimary() {
+        // When
+        String database = jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+
+        // Then
+        assertThat(database).isEqualTo("primarydb");
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+
+    private static void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.order.integration;
+
+import com.ecommerce.order.security.ratelimit.LeasingRateLimiter;
+import com.ecommerce.order.security.ratelimit.RateLimitAlgorithm;
+import com.ecommerce.order.security.ratelimit.RateLimitDecision;
+import com.ecommerce.order.security.ratelimit.RedisRateLimiter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class RedisRateLimiterIntegrationTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void tryAcquire_ShouldNeverAdmitMoreThanLimitUnderConcurrency(RateLimitAlgorithm algorithm) throws Exception {
+        // Given
+        RedisRateLimiter rateLimiter = new RedisRateLimiter(redisTemplate, algorithm);
+        String key = rateLimiter.key("ip:" + UUID.randomUUID(), "GET:/api/v1/orders");
+        int limit = 10;
+
+        List<Callable<RateLimitDecision>> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(() -> rateLimiter.tryAcquire(key, limit, Duration.ofMinutes(1)));
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        long admitted = 0;
+        long retryAfterMillis = 0;
+        try {
+            for (Future<RateLimitDecision> result : executor.invokeAll(requests)) {
+                RateLimitDecision decision = result.get();
+                if (decision.allowed()) {
+                    admitted++;
+                } else {
+                    retryAfterMillis = decision.retryAfterMillis();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(admitted).isEqualTo(limit);
+        assertThat(retryAfterMillis).isPositive();
+        assertThat(rateLimiter.remaining(key, limit, Duration.ofMinutes(1))).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void leasing_ShouldAdmitExactlyLimitFromLeasedBatches(RateLimitAlgorithm algorithm) {
+        // Given
+        RedisRateLimiter redisRateLimiter = new RedisRateLimiter(redisTemplate, algorithm);
+        LeasingRateLimiter leasingRateLimiter =
+                new LeasingRateLimiter(redisRateLimiter, 3, Duration.ofSeconds(30), 0.1, 1000);
+        String key = redisRateLimiter.key("user:" + UUID.randomUUID(), "GET:/api/v1/orders");
+        int limit = 10;
+
+        // When
+        long admitted = 0;
+        for (int i = 0; i < 15; i++) {
+            if (leasingRateLimiter.tryAcquire(key, limit, Duration.ofMinutes(1)).allowed()) {
+                admitted++;
+            }
+        }
+
+        // Then
+        assertThat(admitted).isEqualTo(limit);
+        assertThat(redisRateLimiter.remaining(key, limit, Duration.ofMinutes(1))).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecommerce.order.integration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Wraps the application data source so a test can capture the SQL and bind values that a
+ * repository call sends to Postgres, exactly as Hibernate or Spring Data generated them.
+ * Only statements executed by the calling thread inside {@link #capture(Runnable)} are
+ * recorded, so scheduled jobs running alongside the test do not interfere.
+ */
+class StatementCapture implements BeanPostProcessor {
+
+    private final ThreadLocal<List<CapturedStatement>> captured = new ThreadLocal<>();
+
+    List<CapturedStatement> capture(Runnable call) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        captured.set(statements);
+        try {
+            call.run();
+        } finally {
+            captured.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || !"dataSource".equals(beanName)) {
+            return bean;
+        }
+        // DelegatingDataSource keeps unwrap(HikariDataSource.class) working for the pool tooling
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return capturing(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return capturing(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if ("prepareStatement".equals(method.getName())) {
+                        return capturing((PreparedStatement) result, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement capturing(PreparedStatement statement, String sql) {
+        SortedMap<Integer, Object> binds = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        binds.put(index, "setNull".equals(name) ? null : args[1]);
+                    } else if ("clearParameters".equals(name)) {
+                        binds.clear();
+                    } else if (name.startsWith("execute")) {
+                        List<CapturedStatement> statements = captured.get();
+                        if (statements != null) {
+                            statements.add(new CapturedStatement(sql, new ArrayList<>(binds.values())));
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    record CapturedStatement(String sql, List<Object> binds) {
+    }
+}
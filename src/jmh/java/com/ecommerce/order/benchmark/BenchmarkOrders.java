@@ -0,0 +1,61 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.entity.OrderItem;
+import com.ecommerce.order.model.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Realistic order fixtures shared by the benchmarks.
+ */
+final class BenchmarkOrders {
+
+    private BenchmarkOrders() {
+    }
+
+    static Order order(int itemCount) {
+        LocalDateTime now = LocalDateTime.now();
+        Order order = Order.builder()
+                .orderId(UUID.randomUUID())
+                .customerId("CUST-" + itemCount)
+                .customerEmail("customer@example.com")
+                .customerName("Jane Customer")
+                .status(OrderStatus.PROCESSING)
+                .currency("USD")
+                .shippingAddress("221B Baker Street, London NW1 6XE")
+                .billingAddress("221B Baker Street, London NW1 6XE")
+                .paymentMethod("CREDIT_CARD")
+                .paymentStatus("PAID")
+                .processedAt(now)
+                .createdAt(now.minusHours(2))
+                .updatedAt(now)
+                .version(3L)
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = item(i);
+            item.calculateSubtotal();
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    static OrderItem item(int index) {
+        return OrderItem.builder()
+                .itemId(UUID.randomUUID())
+                .productId("PROD-" + index)
+                .productName("Product " + index)
+                .productDescription("Description of product " + index)
+                .productSku("SKU-" + index)
+                .quantity(1 + index % 5)
+                .unitPrice(new BigDecimal("19.99").add(BigDecimal.valueOf(index)))
+                .discountAmount(new BigDecimal("1.50"))
+                .taxAmount(new BigDecimal("2.10"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
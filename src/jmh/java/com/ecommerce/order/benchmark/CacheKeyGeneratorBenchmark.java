@@ -0,0 +1,59 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.config.CacheConfig;
+import com.ecommerce.order.model.enums.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+/**
+ * {@link CacheConfig.CustomKeyGenerator#generate}, invoked on every cached call that has no
+ * explicit key.
+ */
+@State(Scope.Benchmark)
+public class CacheKeyGeneratorBenchmark {
+
+    private final CacheConfig.CustomKeyGenerator keyGenerator = new CacheConfig.CustomKeyGenerator();
+    private final Target target = new Target();
+
+    private Method byId;
+    private Method byStatus;
+    private UUID orderId;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        byId = Target.class.getMethod("getOrderById", UUID.class);
+        byStatus = Target.class.getMethod("getOrdersByStatus", OrderStatus.class, Pageable.class);
+        orderId = UUID.randomUUID();
+        pageable = PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @Benchmark
+    public Object singleParameter() {
+        return keyGenerator.generate(target, byId, orderId);
+    }
+
+    @Benchmark
+    public Object pageableParameters() {
+        return keyGenerator.generate(target, byStatus, OrderStatus.SHIPPED, pageable);
+    }
+
+    public static class Target {
+
+        public Object getOrderById(UUID orderId) {
+            return null;
+        }
+
+        public Object getOrdersByStatus(OrderStatus status, Pageable pageable) {
+            return null;
+        }
+    }
+}
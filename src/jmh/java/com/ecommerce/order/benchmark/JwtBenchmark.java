@@ -0,0 +1,81 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.model.entity.User;
+import com.ecommerce.order.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Token verification on the request path. The repeated-token benchmarks hit the verified
+ * token cache; the rotating ones cycle through more tokens than the cache holds, so nearly
+ * every call pays for full parsing and HMAC verification.
+ */
+@State(Scope.Thread)
+public class JwtBenchmark {
+
+    private static final int ROTATING_TOKENS = 4096;
+    private static final long CACHE_SIZE = 64;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    private String[] rotatingTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpiration", 86400L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "issuer", "benchmark");
+        ReflectionTestUtils.setField(jwtTokenProvider, "verificationCacheMaxSize", CACHE_SIZE);
+        ReflectionTestUtils.invokeMethod(jwtTokenProvider, "init");
+
+        User user = User.builder()
+                .userId(UUID.randomUUID())
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .password("unused")
+                .roles(Set.of("USER"))
+                .build();
+
+        token = jwtTokenProvider.generateAccessToken(user);
+        rotatingTokens = new String[ROTATING_TOKENS];
+        for (int i = 0; i < ROTATING_TOKENS; i++) {
+            rotatingTokens[i] = jwtTokenProvider.generateAccessToken(user);
+        }
+    }
+
+    @Benchmark
+    public boolean validateRepeatedToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getClaimsRepeatedToken() {
+        return jwtTokenProvider.getClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateRotatingTokens() {
+        return jwtTokenProvider.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public Claims getClaimsRotatingTokens() {
+        return jwtTokenProvider.getClaims(nextToken());
+    }
+
+    private String nextToken() {
+        next = (next + 1) % ROTATING_TOKENS;
+        return rotatingTokens[next];
+    }
+}
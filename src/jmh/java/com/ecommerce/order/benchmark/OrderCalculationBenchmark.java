@@ -0,0 +1,43 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.entity.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link OrderItem#calculateSubtotal()} and {@link Order#recalculateTotal()}, which run on
+ * every order create and item change.
+ */
+@State(Scope.Thread)
+public class OrderCalculationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private OrderItem item;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkOrders.order(itemCount);
+        item = BenchmarkOrders.item(7);
+    }
+
+    @Benchmark
+    public BigDecimal calculateSubtotal() {
+        item.calculateSubtotal();
+        return item.getSubtotal();
+    }
+
+    @Benchmark
+    public BigDecimal recalculateTotal() {
+        order.recalculateTotal();
+        return order.getTotalAmount();
+    }
+}
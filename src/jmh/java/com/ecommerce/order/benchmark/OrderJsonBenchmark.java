@@ -0,0 +1,55 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson serialization of responses, using an {@link ObjectMapper} configured the way Spring
+ * MVC builds it.
+ */
+@State(Scope.Benchmark)
+public class OrderJsonBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private OrderResponse order;
+    private Page<OrderResponse> page;
+
+    @Setup
+    public void setUp() {
+        OrderMapper orderMapper = new OrderMapper();
+        order = orderMapper.toOrderResponse(BenchmarkOrders.order(5));
+
+        List<OrderResponse> content = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(orderMapper.toOrderResponse(BenchmarkOrders.order(3)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.ecommerce.order.model.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link OrderMapper#toOrderResponse(Order)}, applied to every order a read endpoint returns.
+ */
+@State(Scope.Benchmark)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkOrders.order(itemCount);
+    }
+
+    @Benchmark
+    public OrderResponse toOrderResponse() {
+        return orderMapper.toOrderResponse(order);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.order.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per operation, safe to record from many threads.
+ */
+class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    ConcurrentHistogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+}
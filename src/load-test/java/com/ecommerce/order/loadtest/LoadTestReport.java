@@ -0,0 +1,109 @@
+package com.ecommerce.order.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-endpoint results of one run; also the format of the stored baseline.
+ */
+record LoadTestReport(int targetRps, long measuredSeconds, Map<String, EndpointResult> endpoints) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    record EndpointResult(long requests, long errors, double throughput,
+                          double p50Millis, double p99Millis, double p999Millis) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    static LoadTestReport from(LoadTestSettings settings, LatencyRecorder recorder, long measuredSeconds) {
+        Map<String, EndpointResult> endpoints = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.histogram(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            endpoints.put(operation.endpoint(), new EndpointResult(
+                    histogram.getTotalCount(),
+                    recorder.errors(operation),
+                    (double) histogram.getTotalCount() / measuredSeconds,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI));
+        }
+        return new LoadTestReport(settings.rps(), measuredSeconds, endpoints);
+    }
+
+    static Optional<LoadTestReport> read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(MAPPER.readValue(path.toFile(), LoadTestReport.class));
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * Endpoints whose latency, throughput or error rate is worse than the baseline by more
+     * than the tolerance. Endpoints missing from either side are not compared.
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+
+        baseline.endpoints().forEach((endpoint, expected) -> {
+            EndpointResult actual = endpoints.get(endpoint);
+            if (actual == null) {
+                return;
+            }
+            checkLatency(regressions, endpoint, "p50", actual.p50Millis(), expected.p50Millis(), tolerance);
+            checkLatency(regressions, endpoint, "p99", actual.p99Millis(), expected.p99Millis(), tolerance);
+            checkLatency(regressions, endpoint, "p99.9", actual.p999Millis(), expected.p999Millis(), tolerance);
+
+            if (actual.throughput() < expected.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f/s < baseline %.1f/s",
+                        endpoint, actual.throughput(), expected.throughput()));
+            }
+            // Absolute allowance so a baseline without errors does not fail on a single one
+            if (actual.errorRate() > expected.errorRate() + 0.01) {
+                regressions.add(String.format("%s error rate %.2f%% > baseline %.2f%%",
+                        endpoint, actual.errorRate() * 100, expected.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String endpoint, String percentile,
+                                     double actual, double expected, double tolerance) {
+        if (actual > expected * (1 + tolerance)) {
+            regressions.add(String.format("%s %s %.2f ms > baseline %.2f ms",
+                    endpoint, percentile, actual, expected));
+        }
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%n%-45s %8s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms"));
+        endpoints.forEach((endpoint, result) -> table.append(String.format("%-45s %8d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                endpoint, result.requests(), result.errors(), result.throughput(),
+                result.p50Millis(), result.p99Millis(), result.p999Millis())));
+        return table.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.order.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties (pass them to Gradle
+ * with {@code -Dloadtest.rps=500}).
+ *
+ * @param rps            target arrival rate across all operations
+ * @param warmup         run length whose samples are discarded
+ * @param duration       measured run length
+ * @param mix            relative weight of each operation
+ * @param baseline       baseline file compared against, and rewritten when {@code updateBaseline} is set
+ * @param report         where the results of this run are written
+ * @param tolerance      allowed relative regression of latency percentiles and throughput
+ * @param updateBaseline store this run as the new baseline instead of comparing
+ */
+record LoadTestSettings(int rps, Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                        Path baseline, Path report, double tolerance, boolean updateBaseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rps", 200),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", "create:15,get:45,customer:15,search:15,cancel:10")),
+                Path.of(System.getProperty("loadtest.baseline", "src/load-test/baseline.json")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/load-test/results.json")),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25")),
+                Boolean.getBoolean("loadtest.updateBaseline"));
+    }
+
+    /**
+     * Parse {@code name:weight} pairs, e.g. {@code create:20,get:80}.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] nameAndWeight = entry.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            mix.put(Operation.fromName(nameAndWeight[0]), Integer.parseInt(nameAndWeight[1].trim()));
+        }
+        return mix;
+    }
+}
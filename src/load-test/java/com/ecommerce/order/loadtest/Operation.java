@@ -0,0 +1,35 @@
+package com.ecommerce.order.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * {@code OrderController} endpoints driven by the load test, labelled by route template so
+ * results from different runs line up.
+ */
+enum Operation {
+
+    CREATE("create", "POST /api/v1/orders"),
+    GET("get", "GET /api/v1/orders/{orderId}"),
+    CUSTOMER("customer", "GET /api/v1/orders/customer/{customerId}"),
+    SEARCH("search", "GET /api/v1/orders/search"),
+    CANCEL("cancel", "POST /api/v1/orders/{orderId}/cancel");
+
+    private final String shortName;
+    private final String endpoint;
+
+    Operation(String shortName, String endpoint) {
+        this.shortName = shortName;
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.shortName.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation: " + name));
+    }
+}
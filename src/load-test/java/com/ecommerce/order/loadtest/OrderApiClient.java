@@ -0,0 +1,98 @@
+package com.ecommerce.order.loadtest;
+
+import com.ecommerce.order.model.dto.request.CreateOrderRequest;
+import com.ecommerce.order.model.dto.request.LoginRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Minimal HTTP client for the order API, as an external caller would use it.
+ */
+class OrderApiClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private String accessToken;
+
+    OrderApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    void login(String username, String password) throws IOException, InterruptedException {
+        LoginRequest login = LoginRequest.builder().username(username).password(password).build();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(login))));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        accessToken = objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    HttpResponse<String> createOrder(String customerId) throws IOException, InterruptedException {
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId(customerId)
+                .customerEmail(customerId.toLowerCase() + "@example.com")
+                .customerName("Load Test " + customerId)
+                .shippingAddress("1 Load Test Way")
+                .paymentMethod("CREDIT_CARD")
+                .items(List.of(CreateOrderRequest.OrderItemRequest.builder()
+                        .productId("PROD-" + UUID.randomUUID().toString().substring(0, 8))
+                        .productName("Load test product")
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("24.99"))
+                        .build()))
+                .build();
+
+        return send(authorized("/api/v1/orders")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request))));
+    }
+
+    HttpResponse<String> getOrder(UUID orderId) throws IOException, InterruptedException {
+        return send(authorized("/api/v1/orders/" + orderId).GET());
+    }
+
+    HttpResponse<String> getCustomerOrders(String customerId) throws IOException, InterruptedException {
+        return send(authorized("/api/v1/orders/customer/" + customerId + "?page=0&size=20").GET());
+    }
+
+    HttpResponse<String> searchOrders(String status) throws IOException, InterruptedException {
+        return send(authorized("/api/v1/orders/search?status=" + status + "&minAmount=10&page=0&size=20").GET());
+    }
+
+    HttpResponse<String> cancelOrder(UUID orderId) throws IOException, InterruptedException {
+        return send(authorized("/api/v1/orders/" + orderId + "/cancel?reason=load-test")
+                .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    UUID orderId(HttpResponse<String> createResponse) throws IOException {
+        JsonNode body = objectMapper.readTree(createResponse.body());
+        return UUID.fromString(body.get("orderId").asText());
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,235 @@
+package com.ecommerce.order.loadtest;
+
+import com.ecommerce.order.model.entity.User;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test of the order API against real Postgres and Redis, run with
+ * {@code ./gradlew loadTest}. Requests are issued at a fixed arrival rate (open model) and
+ * latency is measured from each request's scheduled start, so a slow server shows up as
+ * queueing delay instead of silently lowering the offered load.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class OrderApiLoadTest {
+
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "Password123!";
+    private static final int CUSTOMERS = 50;
+    private static final int SEED_ORDERS = 500;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        // Measure the service, not the per-user request budget
+        registry.add("rate-limit.enabled", () -> "false");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private OrderApiClient client;
+    private final List<UUID> orderIds = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<UUID> cancellableOrderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userRepository.save(User.builder()
+                .username(USERNAME)
+                .email("loadtest@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .firstName("Load")
+                .lastName("Test")
+                .roles(Set.of("USER"))
+                .enabled(true)
+                .emailVerified(true)
+                .build());
+
+        client = new OrderApiClient("http://localhost:" + port, objectMapper);
+        client.login(USERNAME, PASSWORD);
+
+        for (int i = 0; i < SEED_ORDERS; i++) {
+            HttpResponse<String> response = client.createOrder(customerId(i));
+            assertThat(response.statusCode()).isEqualTo(201);
+            rememberCreated(client.orderId(response));
+        }
+    }
+
+    @Test
+    void orderApi_ShouldStayWithinBaseline() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        // Warm up JIT, caches and connection pools; these samples are discarded
+        run(settings, settings.warmup().toNanos());
+        LatencyRecorder recorder = run(settings, settings.duration().toNanos());
+
+        LoadTestReport report = LoadTestReport.from(settings, recorder, settings.duration().toSeconds());
+        report.write(settings.report());
+        System.out.println(report.toTable());
+
+        if (settings.updateBaseline()) {
+            report.write(settings.baseline());
+            System.out.println("Baseline written to " + settings.baseline());
+            return;
+        }
+
+        Optional<LoadTestReport> baseline = LoadTestReport.read(settings.baseline());
+        assertThat(baseline)
+                .as("No baseline at %s, rerun with -Dloadtest.updateBaseline=true to record one", settings.baseline())
+                .isPresent();
+
+        assertThat(report.regressionsAgainst(baseline.get(), settings.tolerance()))
+                .as("Regressions against %s", settings.baseline())
+                .isEmpty();
+    }
+
+    /**
+     * Issue requests at the target rate for {@code durationNanos}. The dispatcher never waits
+     * for responses; each request runs on its own virtual thread.
+     */
+    private LatencyRecorder run(LoadTestSettings settings, long durationNanos) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<Operation> schedule = weightedSchedule(settings.mix());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart - start >= durationNanos) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = schedule.get(ThreadLocalRandom.current().nextInt(schedule.size()));
+                executor.submit(() -> execute(operation, intendedStart, recorder));
+            }
+        }
+        // Closing the executor waits for in-flight requests
+        return recorder;
+    }
+
+    private void execute(Operation operation, long intendedStart, LatencyRecorder recorder) {
+        // The mix can cancel faster than it creates; without an order to cancel the request
+        // becomes a read and is recorded as one, so it does not skew the cancel latencies
+        UUID cancellable = operation == Operation.CANCEL ? cancellableOrderIds.poll() : null;
+        Operation issued = operation == Operation.CANCEL && cancellable == null ? Operation.GET : operation;
+        
+        boolean success;
+        try {
+            success = switch (issued) {
+                case CREATE -> create();
+                case GET -> isOk(client.getOrder(randomOrderId()));
+                case CUSTOMER -> isOk(client.getCustomerOrders(customerId(ThreadLocalRandom.current().nextInt(CUSTOMERS))));
+                case SEARCH -> isOk(client.searchOrders("PENDING"));
+                case CANCEL -> isOk(client.cancelOrder(cancellable));
+            };
+        } catch (Exception e) {
+            success = false;
+        }
+        recorder.record(issued, System.nanoTime() - intendedStart, success);
+    }
+
+    private boolean create() throws Exception {
+        HttpResponse<String> response = client.createOrder(customerId(ThreadLocalRandom.current().nextInt(CUSTOMERS)));
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        rememberCreated(client.orderId(response));
+        return true;
+    }
+
+    private void rememberCreated(UUID orderId) {
+        orderIds.add(orderId);
+        cancellableOrderIds.add(orderId);
+    }
+
+    private UUID randomOrderId() {
+        return orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size()));
+    }
+
+    private static boolean isOk(HttpResponse<String> response) {
+        return response.statusCode() == 200;
+    }
+
+    private static String customerId(int index) {
+        return "LOADCUST" + index;
+    }
+
+    private static List<Operation> weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one operation a positive weight");
+        }
+        return schedule;
+    }
+}
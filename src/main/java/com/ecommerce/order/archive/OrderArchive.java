@@ -0,0 +1,140 @@
+package com.ecommerce.order.archive;
+
+import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.ecommerce.order.model.entity.ArchivedOrder;
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.pagination.OrderCursor;
+import com.ecommerce.order.repository.ArchivedOrderRepository;
+import com.ecommerce.order.repository.OrderHistoryEntry;
+import com.ecommerce.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Read-through view over hot {@code orders} and cold {@code order_archive}. Archived orders
+ * are stored as gzip-compressed {@link OrderResponse} JSON, so reading one back needs no
+ * joins and returns exactly what the API served before the order was archived.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderArchive {
+
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Cold copy of an order, its items included. The order must have its items loaded.
+     */
+    public ArchivedOrder toArchivedOrder(Order order, LocalDateTime archivedAt) {
+        return ArchivedOrder.builder()
+                .orderId(order.getOrderId())
+                .customerId(order.getCustomerId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .createdAt(order.getCreatedAt())
+                .archivedAt(archivedAt)
+                .document(compress(orderMapper.toOrderResponse(order)))
+                .build();
+    }
+
+    public Optional<OrderResponse> findOrder(UUID orderId) {
+        return archivedOrderRepository.findById(orderId).map(this::decompress);
+    }
+
+    public boolean containsOrder(UUID orderId, String customerId) {
+        return archivedOrderRepository.existsByOrderIdAndCustomerId(orderId, customerId);
+    }
+
+    /**
+     * A customer's hot and archived orders in one page, newest first. The pageable's sort is
+     * not applied; the history is always ordered by {@code (createdAt DESC, orderId DESC)}.
+     */
+    public Page<OrderResponse> customerHistory(String customerId, Pageable pageable) {
+        List<OrderHistoryEntry> entries = archivedOrderRepository.findCustomerHistory(
+                customerId, pageable.getPageSize(), pageable.getOffset());
+        
+        return PageableExecutionUtils.getPage(load(entries), pageable,
+                () -> orderRepository.countByCustomerId(customerId)
+                        + archivedOrderRepository.countByCustomerId(customerId));
+    }
+
+    /**
+     * Up to {@code limit} of a customer's hot and archived orders strictly after the cursor
+     * in {@code (createdAt DESC, orderId DESC)} order.
+     */
+    public List<OrderResponse> customerHistoryAfter(String customerId, OrderCursor after, int limit) {
+        return load(archivedOrderRepository.findCustomerHistoryAfter(
+                customerId, after.getCreatedAt(), after.getOrderId(), limit));
+    }
+
+    // Hot orders are fetched with their items in one query and archived ones by primary key;
+    // the result keeps the history order
+    private List<OrderResponse> load(List<OrderHistoryEntry> entries) {
+        Map<Boolean, List<UUID>> idsByTier = entries.stream()
+                .collect(Collectors.partitioningBy(OrderHistoryEntry::getArchived,
+                        Collectors.mapping(OrderHistoryEntry::getOrderId, Collectors.toList())));
+        
+        Map<UUID, OrderResponse> orders = new HashMap<>();
+        if (!idsByTier.get(false).isEmpty()) {
+            orderRepository.findAllByIdWithItems(idsByTier.get(false)).stream()
+                    .map(orderMapper::toOrderResponse)
+                    .forEach(order -> orders.put(order.getOrderId(), order));
+        }
+        if (!idsByTier.get(true).isEmpty()) {
+            archivedOrderRepository.findAllById(idsByTier.get(true)).stream()
+                    .map(this::decompress)
+                    .forEach(order -> orders.put(order.getOrderId(), order));
+        }
+        
+        // An order archived between the two reads is in neither result and is skipped
+        List<OrderResponse> content = new ArrayList<>(entries.size());
+        for (OrderHistoryEntry entry : entries) {
+            OrderResponse order = orders.get(entry.getOrderId());
+            if (order != null) {
+                content.add(order);
+            }
+        }
+        return content;
+    }
+
+    private byte[] compress(OrderResponse order) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, order);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to archive order " + order.getOrderId(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private OrderResponse decompress(ArchivedOrder archived) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(archived.getDocument()))) {
+            return objectMapper.readValue(in, OrderResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable archived order " + archived.getOrderId(), e);
+        }
+    }
+}
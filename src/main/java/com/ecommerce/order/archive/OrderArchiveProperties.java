@@ -0,0 +1,32 @@
+package com.ecommerce.order.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Hot/cold tiering of terminal orders under {@code app.orders.archive}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.orders.archive")
+public class OrderArchiveProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * DELIVERED and CANCELLED orders created longer ago than this move to {@code order_archive}.
+     */
+    private Duration olderThan = Duration.ofDays(90);
+
+    /**
+     * Orders moved per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on batches per scheduled run, so a large backlog drains over several runs
+     * instead of holding the lock for hours. 0 means no limit.
+     */
+    private int maxBatchesPerRun = 200;
+}
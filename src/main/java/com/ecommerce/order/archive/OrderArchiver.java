@@ -0,0 +1,62 @@
+package com.ecommerce.order.archive;
+
+import com.ecommerce.order.cache.OrderCacheInvalidator;
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves terminal orders from {@code orders} to {@code order_archive}, keeping the hot tables
+ * and their indexes sized to the orders that still change. The copy and the delete share a
+ * transaction, so an order is always in exactly one of the two tables.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiver {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchive orderArchive;
+    private final OrderCacheInvalidator cacheInvalidator;
+    private final EntityManager entityManager;
+
+    /**
+     * Archive up to {@code batchSize} DELIVERED or CANCELLED orders created before the cutoff,
+     * oldest first. Returns the number of orders archived; 0 means nothing is left to do.
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        // Rows locked by a concurrent run are skipped rather than waited for
+        List<UUID> orderIds = orderRepository.findOrderIdsForArchiving(cutoff, batchSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        
+        LocalDateTime archivedAt = LocalDateTime.now();
+        for (Order order : orderRepository.findAllByIdWithItems(orderIds)) {
+            entityManager.persist(orderArchive.toArchivedOrder(order, archivedAt));
+        }
+        entityManager.flush();
+        
+        int deleted = orderRepository.deleteArchived(orderIds, cutoff);
+        entityManager.clear();
+        
+        // Order and customer reads return the same responses from the archive, and the statistics
+        // rollup still counts archived orders; only the listings by status drop them
+        cacheInvalidator.invalidate(new OrderCacheInvalidator.Invalidation()
+                .status(OrderStatus.DELIVERED)
+                .status(OrderStatus.CANCELLED));
+        
+        log.debug("Archived {} orders created before {}", deleted, cutoff);
+        return deleted;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.order.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub channel carrying local-cache invalidations between nodes. Messages a node
+ * publishes are delivered back to it as well and are ignored by origin id.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.cache.invalidation.channel:order-service:cache-invalidation}")
+    private String channel;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Consumer<CacheInvalidationMessage> handler = message -> { };
+
+    public void subscribe(Consumer<CacheInvalidationMessage> handler) {
+        this.handler = handler;
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        log.info("Subscribed to cache invalidation channel {} as node {}", channel, nodeId);
+    }
+
+    public void publish(String cacheName, CacheInvalidationMessage.Type type, String value) {
+        CacheInvalidationMessage message = CacheInvalidationMessage.builder()
+                .originNodeId(nodeId)
+                .cacheName(cacheName)
+                .type(type)
+                .value(value)
+                .build();
+        
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize cache invalidation {}", message, e);
+        } catch (RuntimeException e) {
+            // Peers fall back to their local TTL until the next successful invalidation
+            log.warn("Failed to publish cache invalidation for {} {}: {}", cacheName, type, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+            
+            if (nodeId.equals(invalidation.getOriginNodeId())) {
+                return;
+            }
+            handler.accept(invalidation);
+        } catch (Exception e) {
+            log.error("Failed to apply cache invalidation message", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.order.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Broadcast to every node when a shared cache entry changes, so peers drop their local copy.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidationMessage {
+
+    public enum Type {
+        KEY, TAG, CLEAR
+    }
+
+    private String originNodeId;
+    private String cacheName;
+    private Type type;
+    // The key or tag for KEY and TAG messages; absent for CLEAR
+    private String value;
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Refresh-ahead settings of one cache: an entry read once it is older than {@code refreshAfter}
+ * is reloaded on {@code executor} while callers keep getting the current value. The loader
+ * returns null for keys whose entry should be dropped instead.
+ */
+public record CacheRefreshAhead(Duration refreshAfter, Executor executor, CacheLoader<Object, Object> loader) {
+}
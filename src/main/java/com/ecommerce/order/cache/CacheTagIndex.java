@@ -0,0 +1,49 @@
+package com.ecommerce.order.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reverse index from tag to the cache keys carrying it. Keys are registered before their
+ * value is stored and unregistered when the cache drops them, so a tag eviction can
+ * remove exactly the affected entries without scanning the cache.
+ */
+public class CacheTagIndex {
+
+    private final Function<Object, Collection<String>> tagResolver;
+    private final Map<String, Set<Object>> keysByTag = new ConcurrentHashMap<>();
+
+    public CacheTagIndex(Function<Object, Collection<String>> tagResolver) {
+        this.tagResolver = tagResolver;
+    }
+
+    public void register(Object key) {
+        for (String tag : tagResolver.apply(key)) {
+            keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public void unregister(Object key) {
+        for (String tag : tagResolver.apply(key)) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * Remove a tag and return the keys that carried it.
+     */
+    public Set<Object> removeTag(String tag) {
+        Set<Object> keys = keysByTag.remove(tag);
+        return keys != null ? keys : Set.of();
+    }
+
+    public void clear() {
+        keysByTag.clear();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts only the cache entries an order write can affect: the order's own entries, the
+ * listing pages of its customer and of its old and new statuses, the unfiltered listing
+ * pages, and the customer's statistics. Inside a transaction the evictions run after
+ * commit, so concurrent readers cannot re-cache the pre-commit state.
+ */
+@Slf4j
+@Component
+public class OrderCacheInvalidator {
+
+    public static final String ORDERS_CACHE = "orders";
+    public static final String ORDER_SEARCH_CACHE = "order-search";
+    public static final String ORDER_STATISTICS_CACHE = "order-statistics";
+
+    private final CacheManager cacheManager;
+
+    public OrderCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void orderCreated(Order order) {
+        invalidate(new Invalidation().customer(order.getCustomerId()).status(order.getStatus()));
+    }
+
+    /**
+     * For writes whose fresh order response is re-cached by id by the caller (e.g. {@code @CachePut}).
+     */
+    public void orderUpdated(Order order, OrderStatus previousStatus) {
+        invalidate(new Invalidation()
+                .customerScopedOrder(order.getOrderId(), order.getCustomerId())
+                .customer(order.getCustomerId())
+                .status(previousStatus)
+                .status(order.getStatus()));
+    }
+
+    public void invalidate(Invalidation invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(invalidation);
+                }
+            });
+        } else {
+            apply(invalidation);
+        }
+    }
+
+    private void apply(Invalidation invalidation) {
+        Cache orders = cacheManager.getCache(ORDERS_CACHE);
+        if (orders != null) {
+            invalidation.orderIds.forEach(orders::evict);
+            invalidation.orderKeys.forEach(orders::evict);
+        }
+
+        Cache search = cacheManager.getCache(ORDER_SEARCH_CACHE);
+        if (search != null) {
+            Set<String> tags = invalidation.searchTags();
+            if (search instanceof TagEvictingCache taggedSearch) {
+                tags.forEach(taggedSearch::evictTag);
+            } else {
+                // Without a tag index the affected pages cannot be located
+                search.clear();
+            }
+        }
+
+        Cache statistics = cacheManager.getCache(ORDER_STATISTICS_CACHE);
+        if (statistics != null) {
+            invalidation.customerIds.forEach(statistics::evict);
+        }
+
+        log.debug("Invalidated order caches - orders: {}, customers: {}, statuses: {}",
+                invalidation.orderIds.size(), invalidation.customerIds.size(), invalidation.statuses);
+    }
+
+    /**
+     * The set of orders, customers and statuses touched by a write. Every invalidation
+     * also drops the unfiltered listing pages, since any write can change them.
+     */
+    public static class Invalidation {
+
+        private final Set<UUID> orderIds = new HashSet<>();
+        private final Set<String> orderKeys = new HashSet<>();
+        private final Set<String> customerIds = new HashSet<>();
+        private final Set<OrderStatus> statuses = EnumSet.noneOf(OrderStatus.class);
+
+        /**
+         * Evict every cached view of the order, including the by-id entry.
+         */
+        public Invalidation order(UUID orderId, String customerId) {
+            orderIds.add(orderId);
+            return customerScopedOrder(orderId, customerId);
+        }
+
+        /**
+         * Evict the customer-scoped view of the order only.
+         */
+        public Invalidation customerScopedOrder(UUID orderId, String customerId) {
+            orderKeys.add(OrderCacheKeys.orderForCustomer(orderId, customerId));
+            return this;
+        }
+
+        public Invalidation customer(String customerId) {
+            customerIds.add(customerId);
+            return this;
+        }
+
+        public Invalidation customers(Collection<String> ids) {
+            customerIds.addAll(ids);
+            return this;
+        }
+
+        public Invalidation status(OrderStatus status) {
+            statuses.add(status);
+            return this;
+        }
+
+        private Set<String> searchTags() {
+            Set<String> tags = new HashSet<>();
+            tags.add(OrderCacheKeys.ALL_ORDERS_TAG);
+            customerIds.forEach(id -> tags.add(OrderCacheKeys.customerTag(id)));
+            statuses.forEach(status -> tags.add(OrderCacheKeys.statusTag(status)));
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Key and tag builders shared by the cache annotations in the order service and by
+ * {@link OrderCacheInvalidator}, so both sides always agree on the key format.
+ */
+public final class OrderCacheKeys {
+
+    public static final String ALL_ORDERS_TAG = "all";
+    public static final String CUSTOMER_TAG_PREFIX = "customer:";
+    public static final String STATUS_TAG_PREFIX = "status:";
+
+    private static final String SEPARATOR = "|";
+    private static final int SEARCH_KEY_PARTS = 4;
+    private static final int UUID_LENGTH = 36;
+
+    private OrderCacheKeys() {
+    }
+
+    public static String orderForCustomer(UUID orderId, String customerId) {
+        return orderId + "-" + customerId;
+    }
+
+    /**
+     * Parse a key of the {@code orders} cache: either a bare order id or an order id
+     * followed by the customer it was read for. Returns null for anything else.
+     */
+    public static OrderKey parseOrderKey(Object key) {
+        if (!(key instanceof String orderKey) || orderKey.length() < UUID_LENGTH) {
+            return null;
+        }
+        try {
+            UUID orderId = UUID.fromString(orderKey.substring(0, UUID_LENGTH));
+            String customerId = orderKey.length() > UUID_LENGTH + 1 ? orderKey.substring(UUID_LENGTH + 1) : null;
+            return new OrderKey(orderId, customerId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static String customerTag(String customerId) {
+        return CUSTOMER_TAG_PREFIX + customerId;
+    }
+
+    public static String statusTag(OrderStatus status) {
+        return STATUS_TAG_PREFIX + status.name();
+    }
+
+    public static String allOrders(Pageable pageable) {
+        return searchKey(ALL_ORDERS_TAG, pageable);
+    }
+
+    public static String customerOrders(String customerId, Pageable pageable) {
+        return searchKey(customerTag(customerId), pageable);
+    }
+
+    public static String statusOrders(OrderStatus status, Pageable pageable) {
+        return searchKey(statusTag(status), pageable);
+    }
+
+    /**
+     * Tags carried by a listing page key. The tag is the last segment so that customer ids
+     * containing the separator cannot shift the fixed page, size and sort segments.
+     */
+    public static Collection<String> searchTags(Object key) {
+        if (key instanceof String searchKey) {
+            String[] parts = searchKey.split("\\|", SEARCH_KEY_PARTS);
+            if (parts.length == SEARCH_KEY_PARTS) {
+                return List.of(parts[SEARCH_KEY_PARTS - 1]);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Parse a listing page key back into its tag and page request. Returns null for keys
+     * this class did not build or whose sort cannot be reconstructed.
+     */
+    public static SearchPage parseSearchKey(Object key) {
+        if (!(key instanceof String searchKey)) {
+            return null;
+        }
+        String[] parts = searchKey.split("\\|", SEARCH_KEY_PARTS);
+        if (parts.length != SEARCH_KEY_PARTS || !parts[0].startsWith("p") || !parts[1].startsWith("s")) {
+            return null;
+        }
+        try {
+            int page = Integer.parseInt(parts[0].substring(1));
+            int size = Integer.parseInt(parts[1].substring(1));
+            Sort sort = parseSort(parts[2]);
+            return sort != null ? new SearchPage(parts[3], PageRequest.of(page, size, sort)) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Inverse of Sort.toString() for plain orders, e.g. "createdAt: DESC,orderId: ASC"
+    private static Sort parseSort(String value) {
+        if (Sort.unsorted().toString().equals(value)) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String order : value.split(",")) {
+            String[] propertyAndDirection = order.split(": ");
+            if (propertyAndDirection.length != 2) {
+                return null;
+            }
+            orders.add(new Sort.Order(Sort.Direction.fromString(propertyAndDirection[1]), propertyAndDirection[0]));
+        }
+        return Sort.by(orders);
+    }
+
+    public record OrderKey(UUID orderId, String customerId) {
+    }
+
+    public record SearchPage(String tag, Pageable pageable) {
+    }
+
+    // Keys are plain strings so they mean the same thing in Caffeine, in Redis and in
+    // invalidation messages exchanged between nodes
+    private static String searchKey(String tag, Pageable pageable) {
+        return "p" + pageable.getPageNumber()
+                + SEPARATOR + "s" + pageable.getPageSize()
+                + SEPARATOR + pageable.getSort()
+                + SEPARATOR + tag;
+    }
+}
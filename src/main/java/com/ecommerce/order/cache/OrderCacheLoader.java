@@ -0,0 +1,87 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.archive.OrderArchive;
+import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.repository.OrderRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reloads entries of the {@code orders} and {@code order-search} caches from their keys so
+ * the two-tier cache can refresh hot entries ahead of expiry. Returning null drops the entry, which
+ * is also the answer for keys that cannot be parsed or orders that no longer exist.
+ */
+@Slf4j
+@Component
+public class OrderCacheLoader implements CacheLoader<Object, Object> {
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderArchive orderArchive;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderCacheLoader(OrderRepository orderRepository, OrderMapper orderMapper,
+                            OrderArchive orderArchive, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.orderArchive = orderArchive;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Object load(@NonNull Object key) {
+        // Both caches share this loader; listing keys are recognized first since order keys
+        // are matched by their UUID prefix alone
+        OrderCacheKeys.SearchPage searchPage = OrderCacheKeys.parseSearchKey(key);
+        if (searchPage != null) {
+            return readOnlyTransaction.execute(status -> loadPage(searchPage));
+        }
+        
+        OrderCacheKeys.OrderKey orderKey = OrderCacheKeys.parseOrderKey(key);
+        if (orderKey != null) {
+            return readOnlyTransaction.execute(status -> loadOrder(orderKey));
+        }
+        
+        log.debug("Cannot reload unrecognized order cache key: {}", key);
+        return null;
+    }
+
+    private Object loadOrder(OrderCacheKeys.OrderKey key) {
+        if (key.customerId() != null 
+                && !orderRepository.existsByOrderIdAndCustomerId(key.orderId(), key.customerId())
+                && !orderArchive.containsOrder(key.orderId(), key.customerId())) {
+            return null;
+        }
+        return orderRepository.findByIdWithItems(key.orderId())
+                .map(orderMapper::toOrderResponse)
+                .or(() -> orderArchive.findOrder(key.orderId()))
+                .orElse(null);
+    }
+
+    private Object loadPage(OrderCacheKeys.SearchPage page) {
+        String tag = page.tag();
+        Page<Order> orders;
+        
+        if (OrderCacheKeys.ALL_ORDERS_TAG.equals(tag)) {
+            orders = orderRepository.findAll(page.pageable());
+        } else if (tag.startsWith(OrderCacheKeys.CUSTOMER_TAG_PREFIX)) {
+            String customerId = tag.substring(OrderCacheKeys.CUSTOMER_TAG_PREFIX.length());
+            return orderArchive.customerHistory(customerId, page.pageable());
+        } else if (tag.startsWith(OrderCacheKeys.STATUS_TAG_PREFIX)) {
+            OrderStatus status = OrderStatus.fromString(tag.substring(OrderCacheKeys.STATUS_TAG_PREFIX.length()));
+            orders = orderRepository.findByStatus(status, page.pageable());
+        } else {
+            return null;
+        }
+        
+        return orders.map(orderMapper::toOrderResponse);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.order.cache;
+
+/**
+ * A cache that can evict every entry carrying a tag.
+ */
+public interface TagEvictingCache {
+
+    void evictTag(String tag);
+}
@@ -0,0 +1,90 @@
+package com.ecommerce.order.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine cache that records each stored key in a {@link CacheTagIndex} and can evict
+ * all entries of a tag. Entries Caffeine drops on its own (size or expiry) must be
+ * reported through an eviction listener calling {@link CacheTagIndex#unregister(Object)}.
+ * Extends {@link CaffeineCache} so cache metrics keep binding to it.
+ */
+public class TaggedCaffeineCache extends CaffeineCache implements TagEvictingCache {
+
+    private final CacheTagIndex tagIndex;
+
+    public TaggedCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                               boolean allowNullValues, CacheTagIndex tagIndex) {
+        super(name, cache, allowNullValues);
+        this.tagIndex = tagIndex;
+    }
+
+    @Override
+    public void evictTag(String tag) {
+        for (Object key : tagIndex.removeTag(tag)) {
+            super.evict(key);
+            tagIndex.unregister(key);
+        }
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(@NonNull Object key) {
+        // A loading cache stores whatever a plain lookup loads, so the key must be indexed first
+        if (getNativeCache() instanceof LoadingCache) {
+            tagIndex.register(key);
+        }
+        return super.lookup(key);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        // Registered up front because the loaded value is stored inside Caffeine's compute
+        tagIndex.register(key);
+        return super.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        tagIndex.register(key);
+        super.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+        tagIndex.register(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        super.evict(key);
+        tagIndex.unregister(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        tagIndex.unregister(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        tagIndex.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        tagIndex.clear();
+        return invalidated;
+    }
+}
@@ -0,0 +1,326 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reads go to the local Caffeine tier, then the shared Redis tier, then the loader; writes
+ * go to both tiers and are broadcast so other nodes drop their local copy and re-read the
+ * shared one. Caches without a Redis tier are local only but still invalidated cluster-wide.
+ * With refresh-ahead, stale local entries are refreshed the same way: shared tier first,
+ * then the database, with reloaded values written back to the shared tier.
+ * Keys are normalized to strings so they are identical in both tiers and in messages.
+ * Redis failures degrade to local-only caching rather than failing the request.
+ */
+@Slf4j
+public class TwoTierCache implements Cache, TagEvictingCache {
+
+    private final Cache local;
+    @Nullable
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final HotPathMetrics metrics;
+    @Nullable
+    private final CacheRefreshAhead refreshAhead;
+    private final ConcurrentMap<String, ReentrantLock> loadLocks = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TwoTierCache(Cache local, @Nullable Cache remote, CacheInvalidationBus invalidationBus,
+                        HotPathMetrics metrics, @Nullable CacheRefreshAhead refreshAhead) {
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.metrics = metrics;
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        String storeKey = storeKey(key);
+        
+        ValueWrapper value = localGet(storeKey);
+        if (value != null) {
+            return value;
+        }
+        
+        value = remoteGet(storeKey);
+        if (value != null) {
+            local.put(storeKey, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    /**
+     * Concurrent misses for one key wait for a single load. The wait uses a per-key
+     * {@link ReentrantLock} rather than the local tier's map compute, so the Redis and database
+     * round trips never run inside a {@code synchronized} block that would pin a virtual thread
+     * to its carrier.
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        String storeKey = storeKey(key);
+        
+        ValueWrapper cached = localGet(storeKey);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        
+        ReentrantLock lock = loadLocks.computeIfAbsent(storeKey, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            cached = local.get(storeKey);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            
+            ValueWrapper shared = remoteGet(storeKey);
+            if (shared != null) {
+                local.put(storeKey, shared.get());
+                return (T) shared.get();
+            }
+            
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            
+            // Another node may have loaded the key meanwhile, possibly after a write: keep its
+            // value rather than overwriting the shared tier with a read that may be older
+            ValueWrapper existing = remotePutIfAbsent(storeKey, loaded);
+            T value = existing != null ? (T) existing.get() : loaded;
+            if (value != null) {
+                local.put(storeKey, value);
+            }
+            return value;
+        } finally {
+            unlockLoad(storeKey, lock);
+        }
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        String storeKey = storeKey(key);
+        local.put(storeKey, value);
+        
+        // Local-only caches are filled from the database and invalidated explicitly on writes,
+        // so only a put that replaces a shared entry needs to reach the other nodes
+        if (remote != null) {
+            remotePut(storeKey, value);
+            invalidationBus.publish(getName(), CacheInvalidationMessage.Type.KEY, storeKey);
+        }
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        String storeKey = storeKey(key);
+        
+        // A load in flight for the key would store what it read before the write; wait for it
+        ReentrantLock inFlight = loadLocks.get(storeKey);
+        if (inFlight != null) {
+            inFlight.lock();
+        }
+        try {
+            remoteEvict(storeKey);
+            local.evict(storeKey);
+        } finally {
+            if (inFlight != null) {
+                inFlight.unlock();
+            }
+        }
+        invalidationBus.publish(getName(), CacheInvalidationMessage.Type.KEY, storeKey);
+    }
+
+    @Override
+    public void evictTag(String tag) {
+        // Tagged caches are local-only: their entries are never written to the shared tier
+        if (local instanceof TagEvictingCache taggedLocal) {
+            taggedLocal.evictTag(tag);
+        } else {
+            local.clear();
+        }
+        invalidationBus.publish(getName(), CacheInvalidationMessage.Type.TAG, tag);
+    }
+
+    @Override
+    public void clear() {
+        if (remote != null) {
+            try {
+                remote.clear();
+            } catch (RuntimeException e) {
+                log.warn("Failed to clear shared cache {}: {}", getName(), e.getMessage());
+            }
+        }
+        local.clear();
+        invalidationBus.publish(getName(), CacheInvalidationMessage.Type.CLEAR, null);
+    }
+
+    @Nullable
+    private ValueWrapper localGet(String storeKey) {
+        ValueWrapper value = local.get(storeKey);
+        if (value != null && refreshAhead != null && isStale(storeKey) && refreshing.add(storeKey)) {
+            try {
+                refreshAhead.executor().execute(() -> refresh(storeKey));
+            } catch (RejectedExecutionException e) {
+                // The pool is saturated; a later read retries
+                refreshing.remove(storeKey);
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isStale(String storeKey) {
+        if (!(local.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return false;
+        }
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(storeKey))
+                .map(age -> age.compareTo(refreshAhead.refreshAfter()) >= 0)
+                .orElse(false);
+    }
+
+    /**
+     * Replace a stale local entry with the shared one, or reload it when the shared tier has
+     * none. Runs under the key's load lock, so an eviction for a write waits for it and a
+     * value read before the write is never stored after it.
+     */
+    private void refresh(String storeKey) {
+        ReentrantLock lock = loadLocks.computeIfAbsent(storeKey, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            // Evicted while queued: the next read loads it, a refresh must not bring it back
+            if (local.get(storeKey) == null) {
+                return;
+            }
+            
+            ValueWrapper shared = remoteGet(storeKey);
+            if (shared != null) {
+                local.put(storeKey, shared.get());
+                return;
+            }
+            
+            Object loaded = refreshAhead.loader().load(storeKey);
+            if (loaded == null) {
+                local.evict(storeKey);
+                return;
+            }
+            ValueWrapper existing = remotePutIfAbsent(storeKey, loaded);
+            local.put(storeKey, existing != null ? existing.get() : loaded);
+        } catch (Exception e) {
+            log.warn("Refresh-ahead failed for {}::{}: {}", getName(), storeKey, e.getMessage());
+        } finally {
+            unlockLoad(storeKey, lock);
+            refreshing.remove(storeKey);
+        }
+    }
+
+    private void unlockLoad(String storeKey, ReentrantLock lock) {
+        lock.unlock();
+        // A thread that fetched the lock but has not queued yet may load again; that is
+        // only a duplicate read
+        if (!lock.hasQueuedThreads()) {
+            loadLocks.remove(storeKey, lock);
+        }
+    }
+
+    private static String storeKey(Object key) {
+        return key instanceof String stringKey ? stringKey : key.toString();
+    }
+
+    @Nullable
+    private ValueWrapper remoteGet(String key) {
+        if (remote == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            Object value = remote.get(key, Object.class);
+            metrics.recordSharedCacheGet(getName(), value != null ? "hit" : "miss", start);
+            return value != null ? new SimpleValueWrapper(value) : null;
+        } catch (RuntimeException e) {
+            metrics.recordSharedCacheGet(getName(), "error", start);
+            log.warn("Shared cache read failed for {}::{}: {}", getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(String key, @Nullable Object value) {
+        if (remote == null || value == null) {
+            return;
+        }
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache write failed for {}::{}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    @Nullable
+    private ValueWrapper remotePutIfAbsent(String key, @Nullable Object value) {
+        if (remote == null || value == null) {
+            return null;
+        }
+        try {
+            ValueWrapper existing = remote.putIfAbsent(key, value);
+            return existing != null && existing.get() != null ? existing : null;
+        } catch (RuntimeException e) {
+            log.warn("Shared cache write failed for {}::{}: {}", getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remoteEvict(String key) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache evict failed for {}::{}: {}", getName(), key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Combines the local Caffeine cache manager with the shared Redis cache manager. Every
+ * cache gets a local tier; only the configured caches also get a shared tier.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    private final Set<String> remoteCacheNames;
+    private final CacheInvalidationBus invalidationBus;
+    private final HotPathMetrics metrics;
+    private final Map<String, CacheRefreshAhead> refreshAhead;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager,
+                               Set<String> remoteCacheNames, CacheInvalidationBus invalidationBus,
+                               HotPathMetrics metrics, Map<String, CacheRefreshAhead> refreshAhead) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.remoteCacheNames = remoteCacheNames;
+        this.invalidationBus = invalidationBus;
+        this.metrics = metrics;
+        this.refreshAhead = refreshAhead;
+        
+        invalidationBus.subscribe(this::applyRemoteInvalidation);
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(@NonNull String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache local = localCacheManager.getCache(cacheName);
+            if (local == null) {
+                return null;
+            }
+            Cache remote = remoteCacheNames.contains(cacheName) ? remoteCacheManager.getCache(cacheName) : null;
+            return new TwoTierCache(local, remote, invalidationBus, metrics, refreshAhead.get(cacheName));
+        });
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    /**
+     * Apply a peer's invalidation to the local tier only; the peer already updated the shared tier.
+     */
+    void applyRemoteInvalidation(CacheInvalidationMessage message) {
+        Cache local = localCacheManager.getCache(message.getCacheName());
+        if (local == null) {
+            return;
+        }
+        
+        switch (message.getType()) {
+            case KEY -> local.evict(message.getValue());
+            case TAG -> {
+                if (local instanceof TagEvictingCache taggedLocal) {
+                    taggedLocal.evictTag(message.getValue());
+                } else {
+                    local.clear();
+                }
+            }
+            case CLEAR -> local.clear();
+        }
+        log.debug("Applied remote cache invalidation {} {} from node {}",
+                message.getType(), message.getCacheName(), message.getOriginNodeId());
+    }
+}
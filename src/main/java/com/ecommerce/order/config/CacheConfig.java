@@ -1,7 +1,19 @@
 package com.ecommerce.order.config;
 
+import com.ecommerce.order.cache.CacheInvalidationBus;
+import com.ecommerce.order.cache.CacheRefreshAhead;
+import com.ecommerce.order.cache.CacheTagIndex;
+import com.ecommerce.order.cache.OrderCacheKeys;
+import com.ecommerce.order.cache.OrderCacheLoader;
+import com.ecommerce.order.cache.TaggedCaffeineCache;
+import com.ecommerce.order.cache.TwoTierCacheManager;
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import com.ecommerce.order.security.AuthenticatedPrincipalCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
@@ -16,22 +28,113 @@ import org.springframework.cache.interceptor.SimpleKeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
 public class CacheConfig implements CachingConfigurer {
 
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ObjectProvider<OrderCacheLoader> orderCacheLoader;
+    private final HotPathMetrics hotPathMetrics;
+
     @Value("${spring.cache.caffeine.spec:maximumSize=1000,expireAfterWrite=5m}")
     private String caffeineSpec;
 
+    @Value("${app.cache.two-tier.enabled:true}")
+    private boolean twoTierEnabled;
+
+    @Value("${app.cache.two-tier.l2-caches:orders,order-statistics}")
+    private String[] l2CacheNames;
+
+    @Value("${app.cache.refresh-ahead.enabled:false}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${app.cache.refresh-ahead.orders-after:45m}")
+    private Duration ordersRefreshAfter;
+
+    @Value("${app.cache.refresh-ahead.order-search-after:8m}")
+    private Duration orderSearchRefreshAfter;
+
+    @Value("${app.cache.refresh-ahead.threads:4}")
+    private int refreshThreads;
+
+    private Executor refreshExecutor;
+
+    @Value("${app.cache.principals.ttl:60s}")
+    private Duration principalCacheTtl;
+
+    @Value("${app.cache.principals.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    /**
+     * Cache manager used by the caching annotations: local Caffeine backed by shared Redis
+     * for the configured caches, or Caffeine alone when the two-tier mode is disabled.
+     */
     @Bean
     @Primary
+    @Override
+    public CacheManager cacheManager() {
+        if (!twoTierEnabled) {
+            log.info("Two-tier caching disabled, using local Caffeine caches only");
+            if (refreshAheadEnabled) {
+                log.warn("Refresh-ahead runs in the two-tier cache and is inactive while it is disabled");
+            }
+            return caffeineCacheManager();
+        }
+        
+        log.info("Two-tier caching enabled, shared Redis tier for caches: {}", String.join(",", l2CacheNames));
+        return new TwoTierCacheManager(
+            caffeineCacheManager(), redisCacheManager, Set.of(l2CacheNames), cacheInvalidationBus, hotPathMetrics,
+            refreshAhead());
+    }
+
+    /**
+     * With refresh-ahead enabled, an entry read after the refresh interval is reloaded in the
+     * background while callers keep getting the current value, so hot entries never expire
+     * under load. The two-tier cache runs the refresh so it reads the shared tier first and
+     * writes reloaded values back to it. Reloads run on a small bounded pool; rejected
+     * reloads are simply retried on a later read.
+     */
+    private Map<String, CacheRefreshAhead> refreshAhead() {
+        if (!refreshAheadEnabled) {
+            return Map.of();
+        }
+        // Resolved on first load so building the caches does not initialize the JPA layer
+        CacheLoader<Object, Object> loader = key -> orderCacheLoader.getObject().load(key);
+        return Map.of(
+            "orders", new CacheRefreshAhead(ordersRefreshAfter, refreshExecutor(), loader),
+            "order-search", new CacheRefreshAhead(orderSearchRefreshAfter, refreshExecutor(), loader));
+    }
+
+    @Bean
     public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Order listing pages are indexed by tag so writes can evict only the affected pages
+        CacheTagIndex searchTagIndex = new CacheTagIndex(OrderCacheKeys::searchTags);
+        
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(
+                    String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if ("order-search".equals(name)) {
+                    return new TaggedCaffeineCache(name, cache, isAllowNullValues(), searchTagIndex);
+                }
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
         
         // Configure different caches with different settings
         cacheManager.registerCustomCache("orders",
@@ -66,6 +169,14 @@ public class CacheConfig implements CachingConfigurer {
                 .build()
         );
         
+        cacheManager.registerCustomCache(AuthenticatedPrincipalCache.USER_PRINCIPALS_CACHE,
+            Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxSize)
+                .expireAfterWrite(principalCacheTtl)
+                .recordStats()
+                .build()
+        );
+        
         cacheManager.registerCustomCache("order-statistics",
             Caffeine.newBuilder()
                 .maximumSize(100)
@@ -78,6 +189,7 @@ public class CacheConfig implements CachingConfigurer {
             Caffeine.newBuilder()
                 .maximumSize(200)
                 .expireAfterWrite(10, TimeUnit.MINUTES)
+                .evictionListener((key, value, cause) -> searchTagIndex.unregister(key))
                 .recordStats()
                 .build()
         );
@@ -95,17 +207,26 @@ public class CacheConfig implements CachingConfigurer {
         return cacheManager;
     }
 
+    // Deliberately not a bean: an Executor bean would replace Boot's applicationTaskExecutor
+    private synchronized Executor refreshExecutor() {
+        if (refreshExecutor == null) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+            threadFactory.setDaemon(true);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    refreshThreads, refreshThreads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(1000), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            refreshExecutor = executor;
+        }
+        return refreshExecutor;
+    }
+
     @Bean
     public Caffeine<Object, Object> caffeineConfig() {
         log.info("Creating Caffeine cache with spec: {}", caffeineSpec);
         return Caffeine.from(caffeineSpec);
     }
 
-    @Override
-    public CacheManager cacheManager() {
-        return caffeineCacheManager();
-    }
-
     @Override
     public CacheResolver cacheResolver() {
         return new SimpleCacheResolver(Objects.requireNonNull(cacheManager()));
@@ -0,0 +1,33 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.datasource.ConnectionUsageTracker;
+import com.ecommerce.order.datasource.MethodTaggingMetricsTrackerFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Installs the per-method pool metrics before Boot's Hikari metrics binder sees the data
+     * source; the binder leaves pools alone that already have a tracker factory.
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsTrackerPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<ConnectionUsageTracker> usageTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari
+                        && hikari.getMetricsTrackerFactory() == null && hikari.getMetricRegistry() == null) {
+                    hikari.setMetricsTrackerFactory(new MethodTaggingMetricsTrackerFactory(meterRegistry, usageTracker));
+                }
+                return bean;
+            }
+        };
+    }
+}
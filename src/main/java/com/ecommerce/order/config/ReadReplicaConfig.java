@@ -0,0 +1,108 @@
+package com.ecommerce.order.config;
+
+import com.ecommerce.order.datasource.ReadYourWritesTracker;
+import com.ecommerce.order.datasource.ReplicaDataSourceProperties;
+import com.ecommerce.order.datasource.ReplicaLagMonitor;
+import com.ecommerce.order.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces Boot's single data source with a router: read-only transactions go to the
+ * replicas in {@code app.datasource.replicas.urls}, everything else (including Flyway and
+ * work outside transactions) to {@code spring.datasource}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSourceProperties replicaProperties,
+                                               DataSourceProperties primaryProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSources(replicaProperties, primaryProperties, meterRegistry),
+                replicaProperties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(RedisTemplate<String, String> redisTemplate,
+                                                       ReplicaDataSourceProperties replicaProperties) {
+        return new ReadYourWritesTracker(redisTemplate, replicaProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWrites) {
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.replicaDataSources());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagMonitor, readYourWrites);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        // Known up front, so the proxy does not borrow a connection at startup to find out
+        proxy.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        log.info("Read replica routing enabled with {} replicas", lagMonitor.replicaDataSources().size());
+        return proxy;
+    }
+
+    private Map<String, DataSource> replicaDataSources(ReplicaDataSourceProperties replicaProperties,
+                                                       DataSourceProperties primaryProperties,
+                                                       MeterRegistry meterRegistry) {
+        String username = replicaProperties.getUsername() != null
+                ? replicaProperties.getUsername() : primaryProperties.determineUsername();
+        String password = replicaProperties.getPassword() != null
+                ? replicaProperties.getPassword() : primaryProperties.determinePassword();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(primaryProperties.determineDriverClassName())
+                    .url(urls.get(i))
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("OrderServiceReplicaPool-" + (i + 1));
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setMinimumIdle(replicaProperties.getMinimumIdle());
+            replica.setReadOnly(true);
+            // Standard hikaricp.* meters only; per-method attribution and auto-sizing cover the primary
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, replica);
+        }
+        return replicas;
+    }
+}
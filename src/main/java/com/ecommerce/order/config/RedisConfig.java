@@ -15,6 +15,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.*;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
@@ -40,6 +41,18 @@ public class RedisConfig {
     @Value("${spring.data.redis.timeout:2000}")
     private long timeout;
 
+    @Value("${spring.data.redis.lettuce.pool.max-active:10}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:2s}")
+    private Duration poolMaxWait;
+
     @Bean
     public LettuceConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
@@ -50,12 +63,12 @@ public class RedisConfig {
             redisStandaloneConfiguration.setPassword(redisPassword);
         }
 
-        // Configure connection pooling
+        // Configure connection pooling; this factory replaces Boot's, so the pool properties are bound here
         GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
-        poolConfig.setMaxTotal(10);
-        poolConfig.setMaxIdle(8);
-        poolConfig.setMinIdle(2);
-        poolConfig.setMaxWait(Duration.ofMillis(timeout));
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
         poolConfig.setTestOnBorrow(true);
         poolConfig.setTestWhileIdle(true);
 
@@ -79,7 +92,8 @@ public class RedisConfig {
                         .commandTimeout(Duration.ofMillis(timeout))
                         .build();
 
-        log.info("Configuring Redis connection to {}:{}", redisHost, redisPort);
+        log.info("Configuring Redis connection to {}:{} (pool max-active={}, max-wait={})",
+                redisHost, redisPort, poolMaxActive, poolMaxWait);
         
         return new LettuceConnectionFactory(redisStandaloneConfiguration, lettucePoolingClientConfiguration);
     }
@@ -139,13 +153,29 @@ public class RedisConfig {
         cacheConfigurations.put("redis-rate-limits",
                 defaultCacheConfig.entryTtl(Duration.ofMinutes(1)));
 
+        // Shared tier of the two-tier caches; TTLs are at least the local Caffeine TTLs
+        cacheConfigurations.put("orders",
+                defaultCacheConfig.entryTtl(Duration.ofHours(1)));
+        
+        cacheConfigurations.put("order-statistics",
+                defaultCacheConfig.entryTtl(Duration.ofMinutes(10)));
+
+        // Not transaction-aware: OrderCacheInvalidator already defers evictions to after commit,
+        // and a decorator registering further synchronizations from afterCommit would be skipped
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
+                .enableStatistics()
                 .build();
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     private ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -0,0 +1,51 @@
+package com.ecommerce.order.config;
+
+import brave.handler.MutableSpan;
+import com.ecommerce.order.monitoring.tracing.AdaptiveSamplingSpanHandler;
+import com.ecommerce.order.monitoring.tracing.RateLimitedSpanReporter;
+import com.ecommerce.order.monitoring.tracing.TraceSamplingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import zipkin2.codec.BytesEncoder;
+import zipkin2.reporter.AsyncReporter;
+import zipkin2.reporter.Sender;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces Boot's unbounded Zipkin reporter with a rate-limited one and decides per trace
+ * which spans reach it. Spans are still recorded for every request (the head sampler stays
+ * at 100%) because errors and latency are only known once the request finishes.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "app.tracing.sampling.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public RateLimitedSpanReporter spanReporter(Sender sender, BytesEncoder<MutableSpan> encoder,
+                                                TraceSamplingProperties properties, MeterRegistry meterRegistry) {
+        TraceSamplingProperties.Export export = properties.getExport();
+        AsyncReporter<MutableSpan> asyncReporter = AsyncReporter.builder(sender)
+                .queuedMaxSpans(export.getQueuedMaxSpans())
+                .messageTimeout(export.getMessageTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .build(encoder);
+        return new RateLimitedSpanReporter(asyncReporter, export.getMaxSpansPerSecond(), meterRegistry);
+    }
+
+    // Runs after Micrometer's span filters and before Boot's Zipkin handler
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    public AdaptiveSamplingSpanHandler adaptiveSamplingSpanHandler(RateLimitedSpanReporter spanReporter,
+                                                                   TraceSamplingProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        log.info("Adaptive trace sampling enabled: {} of fast successes, all errors and requests over {}",
+                properties.getSuccessRate(), properties.getSlowThreshold());
+        return new AdaptiveSamplingSpanHandler(spanReporter, properties, meterRegistry);
+    }
+}
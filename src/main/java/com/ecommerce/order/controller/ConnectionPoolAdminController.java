@@ -0,0 +1,67 @@
+package com.ecommerce.order.controller;
+
+import com.ecommerce.order.datasource.ConnectionPoolAutoSizer;
+import com.ecommerce.order.datasource.ConnectionPoolSizingProperties;
+import com.ecommerce.order.datasource.ConnectionUsageTracker;
+import com.ecommerce.order.model.dto.response.ConnectionPoolStatusResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@RestController
+@RequestMapping("/api/admin/db-pool")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational endpoints for administrators")
+@SecurityRequirement(name = "bearerAuth")
+public class ConnectionPoolAdminController {
+
+    private final DataSource dataSource;
+    private final ConnectionUsageTracker usageTracker;
+    private final ConnectionPoolSizingProperties sizingProperties;
+    private final ObjectProvider<ConnectionPoolAutoSizer> autoSizer;
+
+    @GetMapping
+    @Operation(summary = "Connection pool status",
+            description = "Current pool usage and the service methods that hold connections longest")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pool status retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Requires the ADMIN role")
+    })
+    public ResponseEntity<ConnectionPoolStatusResponse> getPoolStatus(
+            @Parameter(description = "Number of methods to list")
+            @RequestParam(defaultValue = "20") int limit) throws SQLException {
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+
+        ConnectionPoolStatusResponse response = ConnectionPoolStatusResponse.builder()
+                .poolName(hikari.getPoolName())
+                .activeConnections(pool != null ? pool.getActiveConnections() : 0)
+                .idleConnections(pool != null ? pool.getIdleConnections() : 0)
+                .pendingThreads(pool != null ? pool.getThreadsAwaitingConnection() : 0)
+                .maximumPoolSize(hikari.getMaximumPoolSize())
+                .autoSizing(autoSizer.getIfAvailable() != null)
+                .minSize(sizingProperties.getMinSize())
+                .maxSize(sizingProperties.getMaxSize())
+                .topHolders(usageTracker.topHolders(Math.max(1, Math.min(limit, 100))))
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
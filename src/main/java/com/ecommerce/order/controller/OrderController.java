@@ -1,9 +1,16 @@
 package com.ecommerce.order.controller;
 
+import com.ecommerce.order.model.dto.request.BatchCreateOrderRequest;
 import com.ecommerce.order.model.dto.request.CreateOrderRequest;
 import com.ecommerce.order.model.dto.request.UpdateOrderStatusRequest;
+import com.ecommerce.order.model.dto.response.BatchOrderResponse;
+import com.ecommerce.order.model.dto.response.CursorPageResponse;
 import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.ecommerce.order.model.dto.response.OrderStatisticsResponse;
+import com.ecommerce.order.model.enums.ExportFormat;
 import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.search.OrderSearchCriteria;
+import com.ecommerce.order.service.OrderExportService;
 import com.ecommerce.order.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,13 +25,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Map;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -36,6 +48,7 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
 
     @PostMapping
     @Operation(summary = "Create a new order", description = "Creates a new order with the provided details")
@@ -56,6 +69,25 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create orders in bulk", description = "Creates up to 1000 orders in a single transaction using batched inserts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Orders created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "429", description = "Rate limit exceeded")
+    })
+    public ResponseEntity<BatchOrderResponse> createOrders(
+            @Valid @RequestBody BatchCreateOrderRequest request,
+            Authentication authentication) {
+        
+        log.info("Creating batch of {} orders", request.getOrders().size());
+        String userId = authentication.getName();
+        BatchOrderResponse response = orderService.createOrders(request, userId);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/{orderId}")
     @Operation(summary = "Get order by ID", description = "Retrieves order details by order ID")
     @ApiResponses(value = {
@@ -140,6 +172,65 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll all orders", description = "Retrieves orders newest first using a continuation cursor instead of page offsets")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> scrollAllOrders(
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size) {
+        
+        CursorPageResponse<OrderResponse> orders = orderService.scrollAllOrders(cursor, size);
+        
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/customer/{customerId}/scroll")
+    @Operation(summary = "Scroll orders by customer", description = "Retrieves a customer's orders newest first using a continuation cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> scrollOrdersByCustomer(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable String customerId,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size) {
+        
+        CursorPageResponse<OrderResponse> orders = orderService.scrollOrdersByCustomer(customerId, cursor, size);
+        
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/status/{status}/scroll")
+    @Operation(summary = "Scroll orders by status", description = "Retrieves orders with a specific status newest first using a continuation cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid status or cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> scrollOrdersByStatus(
+            @Parameter(description = "Order status", required = true)
+            @PathVariable String status,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size) {
+        
+        OrderStatus orderStatus = OrderStatus.fromString(status);
+        CursorPageResponse<OrderResponse> orders = orderService.scrollOrdersByStatus(orderStatus, cursor, size);
+        
+        return ResponseEntity.ok(orders);
+    }
+
     @PatchMapping("/{orderId}/status")
     @Operation(summary = "Update order status", description = "Updates the status of an existing order")
     @ApiResponses(value = {
@@ -185,13 +276,18 @@ public class OrderController {
     @Operation(summary = "Search orders", description = "Search orders with multiple criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid criteria or sort field"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Page<OrderResponse>> searchOrders(
             @Parameter(description = "Customer ID")
             @RequestParam(required = false) String customerId,
-            @Parameter(description = "Order status")
-            @RequestParam(required = false) String status,
+            @Parameter(description = "Order status; repeat or comma-separate for several")
+            @RequestParam(required = false) List<String> status,
+            @Parameter(description = "Payment status")
+            @RequestParam(required = false) String paymentStatus,
+            @Parameter(description = "Only orders containing this product")
+            @RequestParam(required = false) String productId,
             @Parameter(description = "Start date (YYYY-MM-DD)")
             @RequestParam(required = false) String startDate,
             @Parameter(description = "End date (YYYY-MM-DD)")
@@ -203,29 +299,114 @@ public class OrderController {
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort field (createdAt, status or customerId)")
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction")
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        
+        OrderSearchCriteria criteria = OrderSearchCriteria.of(
+                customerId, status, paymentStatus, productId, startDate, endDate, minAmount, maxAmount);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sortDirection), sortBy));
+        
+        Page<OrderResponse> orders = orderService.searchOrders(criteria, pageable);
+        
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/search/scroll")
+    @Operation(summary = "Scroll order search", description = "Search orders with multiple criteria using a continuation cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid criteria or cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> scrollSearchOrders(
+            @Parameter(description = "Customer ID")
+            @RequestParam(required = false) String customerId,
+            @Parameter(description = "Order status; repeat or comma-separate for several")
+            @RequestParam(required = false) List<String> status,
+            @Parameter(description = "Payment status")
+            @RequestParam(required = false) String paymentStatus,
+            @Parameter(description = "Only orders containing this product")
+            @RequestParam(required = false) String productId,
+            @Parameter(description = "Start date (YYYY-MM-DD)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "End date (YYYY-MM-DD)")
+            @RequestParam(required = false) String endDate,
+            @Parameter(description = "Minimum amount")
+            @RequestParam(required = false) Double minAmount,
+            @Parameter(description = "Maximum amount")
+            @RequestParam(required = false) Double maxAmount,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
         
-        OrderStatus orderStatus = status != null ? OrderStatus.fromString(status) : null;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        OrderSearchCriteria criteria = OrderSearchCriteria.of(
+                customerId, status, paymentStatus, productId, startDate, endDate, minAmount, maxAmount);
         
-        Page<OrderResponse> orders = orderService.searchOrders(
-                customerId, orderStatus, startDate, endDate, minAmount, maxAmount, pageable);
+        CursorPageResponse<OrderResponse> orders = orderService.scrollSearchOrders(criteria, cursor, size);
         
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export orders", description = "Streams all orders matching the search criteria as NDJSON or CSV, oldest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or criteria"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Export format (ndjson or csv)")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Customer ID")
+            @RequestParam(required = false) String customerId,
+            @Parameter(description = "Order status; repeat or comma-separate for several")
+            @RequestParam(required = false) List<String> status,
+            @Parameter(description = "Payment status")
+            @RequestParam(required = false) String paymentStatus,
+            @Parameter(description = "Only orders containing this product")
+            @RequestParam(required = false) String productId,
+            @Parameter(description = "Start date (YYYY-MM-DD)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "End date (YYYY-MM-DD)")
+            @RequestParam(required = false) String endDate,
+            @Parameter(description = "Minimum amount")
+            @RequestParam(required = false) Double minAmount,
+            @Parameter(description = "Maximum amount")
+            @RequestParam(required = false) Double maxAmount) {
+        
+        // Resolve everything that can fail before the response is committed: once the body
+        // starts streaming, an error can only truncate a 200 response
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        OrderSearchCriteria criteria = OrderSearchCriteria.of(
+                customerId, status, paymentStatus, productId, startDate, endDate, minAmount, maxAmount);
+        
+        StreamingResponseBody body = out -> orderExportService.exportOrders(criteria, exportFormat, out);
+        
+        String filename = "orders-" + LocalDate.now() + "." + exportFormat.getFileExtension();
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, 
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/statistics/{customerId}")
     @Operation(summary = "Get order statistics", description = "Retrieves order statistics for a specific customer")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<Map<String, Object>> getOrderStatistics(
+    public ResponseEntity<OrderStatisticsResponse> getOrderStatistics(
             @Parameter(description = "Customer ID", required = true)
             @PathVariable String customerId) {
         
         log.info("Fetching statistics for customer: {}", customerId);
-        Map<String, Object> statistics = orderService.getOrderStatistics(customerId);
+        OrderStatisticsResponse statistics = orderService.getOrderStatistics(customerId);
         
         return ResponseEntity.ok(statistics);
     }
@@ -0,0 +1,124 @@
+package com.ecommerce.order.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adjusts the Hikari pool size within {@link ConnectionPoolSizingProperties} bounds from
+ * what happened since the last run: grows while callers wait for connections and the
+ * database is responsive, holds when waits come from slow queries, and shrinks when
+ * connections sit unused. Each node decides on its own; no lock is needed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "app.datasource.pool-sizing.enabled", havingValue = "true")
+public class ConnectionPoolAutoSizer {
+
+    private static final String REPOSITORY_METRIC = "spring.data.repository.invocations";
+
+    private final HikariConfigMXBean poolConfig;
+    private final ConnectionUsageTracker usageTracker;
+    private final ConnectionPoolSizingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final int configuredMinimumIdle;
+    private final AtomicInteger targetSize;
+
+    private long lastRepositoryCalls;
+    private double lastRepositoryMillis;
+
+    public ConnectionPoolAutoSizer(DataSource dataSource, ConnectionUsageTracker usageTracker,
+                                   ConnectionPoolSizingProperties properties, MeterRegistry meterRegistry)
+            throws SQLException {
+        this.poolConfig = dataSource.unwrap(HikariDataSource.class).getHikariConfigMXBean();
+        this.usageTracker = usageTracker;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.configuredMinimumIdle = poolConfig.getMinimumIdle();
+
+        int initial = clamp(poolConfig.getMaximumPoolSize());
+        this.targetSize = new AtomicInteger(initial);
+        apply(initial);
+
+        Gauge.builder("db.pool.target.size", targetSize, AtomicInteger::get)
+                .description("Maximum pool size chosen by the auto-sizer")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.pool-sizing.interval-ms:30000}")
+    public void adjust() {
+        ConnectionUsageTracker.Window window = usageTracker.drainWindow();
+        double dbLatencyMillis = repositoryLatencySinceLastRun();
+        int current = targetSize.get();
+
+        int next = nextSize(current, window, dbLatencyMillis);
+        if (next != current) {
+            log.info("Resizing connection pool {} -> {} (mean wait {} ms, timeouts {}, peak active {}, "
+                            + "repository latency {} ms)",
+                    current, next, String.format("%.2f", window.meanWaitMillis()), window.timeouts(),
+                    window.peakActive(), String.format("%.1f", dbLatencyMillis));
+            targetSize.set(next);
+            apply(next);
+        }
+    }
+
+    int nextSize(int current, ConnectionUsageTracker.Window window, double dbLatencyMillis) {
+        double meanWait = window.meanWaitMillis();
+        boolean starved = window.timeouts() > 0 || meanWait >= properties.getGrowWaitThreshold().toMillis();
+
+        if (starved) {
+            if (dbLatencyMillis >= properties.getDbLatencyCeiling().toMillis()) {
+                log.warn("Connection waits of {} ms come with repository latency of {} ms; not growing the pool",
+                        String.format("%.2f", meanWait), String.format("%.1f", dbLatencyMillis));
+                return current;
+            }
+            return clamp(current + properties.getStep());
+        }
+
+        boolean idle = meanWait < properties.getShrinkWaitThreshold().toMillis()
+                && window.peakActive() <= current - 2L * properties.getStep();
+        if (idle) {
+            return clamp(current - properties.getStep());
+        }
+        return current;
+    }
+
+    private double repositoryLatencySinceLastRun() {
+        long calls = 0;
+        double millis = 0;
+        for (Timer timer : meterRegistry.find(REPOSITORY_METRIC).timers()) {
+            calls += timer.count();
+            millis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+
+        long deltaCalls = calls - lastRepositoryCalls;
+        double deltaMillis = millis - lastRepositoryMillis;
+        lastRepositoryCalls = calls;
+        lastRepositoryMillis = millis;
+        return deltaCalls > 0 ? deltaMillis / deltaCalls : 0;
+    }
+
+    private void apply(int size) {
+        poolConfig.setMaximumPoolSize(size);
+        poolConfig.setMinimumIdle(Math.min(configuredMinimumIdle, size));
+    }
+
+    private int clamp(int size) {
+        return Math.max(properties.getMinSize(), Math.min(properties.getMaxSize(), size));
+    }
+
+    public int getTargetSize() {
+        return targetSize.get();
+    }
+}
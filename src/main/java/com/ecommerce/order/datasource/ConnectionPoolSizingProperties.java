@@ -0,0 +1,43 @@
+package com.ecommerce.order.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds for {@link ConnectionPoolAutoSizer} under {@code app.datasource.pool-sizing}.
+ * {@code max-size} is this node's share of the Postgres connection budget, so
+ * {@code max-size × replicas} must stay below the server's {@code max_connections}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.pool-sizing")
+public class ConnectionPoolSizingProperties {
+
+    private boolean enabled = false;
+
+    private int minSize = 5;
+
+    private int maxSize = 20;
+
+    /**
+     * Connections added or removed per adjustment.
+     */
+    private int step = 2;
+
+    /**
+     * Mean wait for a connection above which the pool grows.
+     */
+    private Duration growWaitThreshold = Duration.ofMillis(10);
+
+    /**
+     * Mean wait below which the pool may shrink, if connections are left unused.
+     */
+    private Duration shrinkWaitThreshold = Duration.ofMillis(1);
+
+    /**
+     * Mean repository call time above which the pool does not grow: the database itself is
+     * the bottleneck and more connections would only add load.
+     */
+    private Duration dbLatencyCeiling = Duration.ofMillis(200);
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.order.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Marks the outermost service or scheduler method on the thread, so connections borrowed
+ * inside it are attributed to it. Runs before the transaction interceptor, which is where
+ * the connection is borrowed.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ConnectionUsageAspect {
+
+    private final ConnectionUsageTracker tracker;
+    private final Map<Method, String> methodNames = new ConcurrentHashMap<>();
+
+    @Around("within(com.ecommerce.order.service..*) "
+            + "|| within(com.ecommerce.order.scheduler..*) "
+            + "|| within(com.ecommerce.order.security.AuthenticatedPrincipalCache)")
+    public Object attribute(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = methodNames.computeIfAbsent(method, m ->
+                AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName() + "." + m.getName());
+
+        if (!tracker.enter(name)) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            tracker.exit();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ecommerce.order.datasource;
+
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes connection pool waits and hold times to the application method that borrowed
+ * the connection, and keeps per-interval totals for {@link ConnectionPoolAutoSizer}. The
+ * current method is set by {@link ConnectionUsageAspect}; pool events are reported by
+ * {@link MethodTaggingMetricsTrackerFactory} on the borrowing thread.
+ */
+@Component
+public class ConnectionUsageTracker {
+
+    static final String WAIT_METRIC = "db.connection.wait";
+    static final String HOLD_METRIC = "db.connection.hold";
+    static final String UNATTRIBUTED = "other";
+
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> waitTimers;
+    private final Meter.MeterProvider<Timer> holdTimers;
+    private final Meter.MeterProvider<DistributionSummary> activeAtAcquire;
+    private final Meter.MeterProvider<DistributionSummary> pendingAtAcquire;
+
+    private final LongAdder windowAcquisitions = new LongAdder();
+    private final LongAdder windowWaitNanos = new LongAdder();
+    private final LongAdder windowReleases = new LongAdder();
+    private final LongAdder windowHoldMillis = new LongAdder();
+    private final LongAdder windowTimeouts = new LongAdder();
+    private final LongAccumulator windowPeakActive = new LongAccumulator(Math::max, 0);
+
+    public ConnectionUsageTracker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimers = Timer.builder(WAIT_METRIC)
+                .description("Time spent waiting for a pooled connection, by borrowing method")
+                .withRegistry(meterRegistry);
+        this.holdTimers = Timer.builder(HOLD_METRIC)
+                .description("Time a pooled connection is held before being returned, by borrowing method")
+                .withRegistry(meterRegistry);
+        this.activeAtAcquire = DistributionSummary.builder("db.pool.active")
+                .description("Connections in use when a connection is borrowed")
+                .withRegistry(meterRegistry);
+        this.pendingAtAcquire = DistributionSummary.builder("db.pool.pending")
+                .description("Threads waiting for a connection when a connection is borrowed")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Attribute connections borrowed on this thread to {@code method} unless an outer method
+     * already claimed them. Returns whether the caller must {@link #exit()}.
+     */
+    boolean enter(String method) {
+        if (CURRENT_METHOD.get() != null) {
+            return false;
+        }
+        CURRENT_METHOD.set(method);
+        return true;
+    }
+
+    void exit() {
+        CURRENT_METHOD.remove();
+    }
+
+    void recordAcquired(long waitNanos, PoolStats poolStats) {
+        String method = currentMethod();
+        waitTimers.withTags("method", method).record(waitNanos, TimeUnit.NANOSECONDS);
+
+        int active = poolStats.getActiveConnections();
+        activeAtAcquire.withTags("method", method).record(active);
+        pendingAtAcquire.withTags("method", method).record(poolStats.getPendingThreads());
+
+        windowAcquisitions.increment();
+        windowWaitNanos.add(waitNanos);
+        windowPeakActive.accumulate(active);
+    }
+
+    void recordReleased(long holdMillis) {
+        holdTimers.withTags("method", currentMethod()).record(holdMillis, TimeUnit.MILLISECONDS);
+        windowReleases.increment();
+        windowHoldMillis.add(holdMillis);
+    }
+
+    void recordTimeout() {
+        windowTimeouts.increment();
+    }
+
+    /**
+     * Totals since the previous call.
+     */
+    Window drainWindow() {
+        return new Window(
+                windowAcquisitions.sumThenReset(),
+                windowWaitNanos.sumThenReset(),
+                windowReleases.sumThenReset(),
+                windowHoldMillis.sumThenReset(),
+                windowTimeouts.sumThenReset(),
+                windowPeakActive.getThenReset());
+    }
+
+    /**
+     * Methods ordered by total connection hold time since startup.
+     */
+    public List<MethodUsage> topHolders(int limit) {
+        return meterRegistry.find(HOLD_METRIC).timers().stream()
+                .map(hold -> {
+                    String method = hold.getId().getTag("method");
+                    Timer wait = meterRegistry.find(WAIT_METRIC).tag("method", method).timer();
+                    return new MethodUsage(
+                            method,
+                            hold.count(),
+                            hold.totalTime(TimeUnit.MILLISECONDS),
+                            hold.mean(TimeUnit.MILLISECONDS),
+                            hold.max(TimeUnit.MILLISECONDS),
+                            wait != null ? wait.mean(TimeUnit.MILLISECONDS) : 0);
+                })
+                .sorted(Comparator.comparingDouble(MethodUsage::totalHoldMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static String currentMethod() {
+        String method = CURRENT_METHOD.get();
+        return method != null ? method : UNATTRIBUTED;
+    }
+
+    record Window(long acquisitions, long waitNanos, long releases, long holdMillis,
+                  long timeouts, long peakActive) {
+
+        double meanWaitMillis() {
+            return acquisitions == 0 ? 0 : waitNanos / 1_000_000.0 / acquisitions;
+        }
+
+        double meanHoldMillis() {
+            return releases == 0 ? 0 : (double) holdMillis / releases;
+        }
+    }
+
+    /**
+     * @param maxHoldMillis decaying maximum over the last few minutes
+     */
+    public record MethodUsage(String method, long connections, double totalHoldMillis,
+                              double meanHoldMillis, double maxHoldMillis, double meanWaitMillis) {
+    }
+}
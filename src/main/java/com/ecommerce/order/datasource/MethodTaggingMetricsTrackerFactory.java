@@ -0,0 +1,63 @@
+package com.ecommerce.order.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Keeps Hikari's standard {@code hikaricp.*} meters and additionally reports borrow and
+ * return events to {@link ConnectionUsageTracker}. Hikari records them on the thread that
+ * borrows or closes the connection, which is what makes per-method attribution possible.
+ * Beans are resolved when the pool starts, not when the data source is created.
+ */
+public class MethodTaggingMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ConnectionUsageTracker> usageTracker;
+
+    public MethodTaggingMetricsTrackerFactory(ObjectProvider<MeterRegistry> meterRegistry,
+                                              ObjectProvider<ConnectionUsageTracker> usageTracker) {
+        this.meterRegistry = meterRegistry;
+        this.usageTracker = usageTracker;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        IMetricsTracker standard = new MicrometerMetricsTrackerFactory(meterRegistry.getObject())
+                .create(poolName, poolStats);
+        ConnectionUsageTracker tracker = usageTracker.getObject();
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                standard.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                standard.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+                tracker.recordAcquired(elapsedAcquiredNanos, poolStats);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                standard.recordConnectionUsageMillis(elapsedBorrowedMillis);
+                tracker.recordReleased(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                standard.recordConnectionTimeout();
+                tracker.recordTimeout();
+            }
+
+            @Override
+            public void close() {
+                standard.close();
+            }
+        };
+    }
+}
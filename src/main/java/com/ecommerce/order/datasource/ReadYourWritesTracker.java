@@ -0,0 +1,74 @@
+package com.ecommerce.order.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers users who recently committed a write so their following reads go to the
+ * primary. The marker is kept in Redis so it holds whichever node serves the next request;
+ * this node's own writers are also kept locally to skip the Redis round trip. If Redis is
+ * unavailable reads go to replicas, at worst {@code max-lag} behind.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "read-your-writes:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration window;
+    private final Cache<String, Boolean> localWriters;
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.localWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        localWriters.put(user, Boolean.TRUE);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + user, "1", window.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.debug("Could not record write for {}: {}", user, e.getMessage());
+        }
+    }
+
+    public boolean isRecentWriter() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        if (localWriters.getIfPresent(user) != null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + user));
+        } catch (RuntimeException e) {
+            log.debug("Could not check recent writes for {}: {}", user, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.order.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under {@code app.datasource.replicas}. Credentials default to the primary's.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * JDBC URLs of the replicas; read-only transactions are spread across the healthy ones.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    private int minimumIdle = 2;
+
+    /**
+     * Replicas further behind the primary than this are skipped until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * How long a user's reads go to the primary after they committed a write. Should exceed
+     * {@code max-lag} so the write is visible on any replica still in use afterwards.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+}
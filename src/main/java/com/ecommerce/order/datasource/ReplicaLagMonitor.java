@@ -0,0 +1,115 @@
+package com.ecommerce.order.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures replay lag of each replica and hands out the ones within the allowed lag in
+ * round-robin order. A replica that cannot be reached counts as lagging.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    // A server that is not in recovery (e.g. a standalone test instance) has no lag
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final Map<String, DataSource> dataSources;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<Replica> healthy;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicaDataSources, Duration maxLag, MeterRegistry meterRegistry) {
+        this.dataSources = Map.copyOf(replicaDataSources);
+        this.replicas = replicaDataSources.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), new JdbcTemplate(entry.getValue())))
+                .toList();
+        this.maxLagMillis = maxLag.toMillis();
+        // Until the first check, assume the replicas are usable
+        this.healthy = replicas;
+
+        for (Replica replica : replicas) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                    .description("Replay lag behind the primary; -1 when the replica is unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try {
+                Double lagSeconds = replica.jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+                replica.lagMillis = lagSeconds != null ? (long) (lagSeconds * 1000) : 0;
+            } catch (RuntimeException e) {
+                log.warn("Replica {} lag check failed: {}", replica.name, e.getMessage());
+                replica.lagMillis = -1000;
+            }
+        }
+
+        List<Replica> usable = replicas.stream()
+                .filter(replica -> replica.lagMillis >= 0 && replica.lagMillis <= maxLagMillis)
+                .toList();
+        if (usable.size() != healthy.size()) {
+            log.info("Usable read replicas: {} of {}", usable.size(), replicas.size());
+        }
+        healthy = usable;
+    }
+
+    /**
+     * Next replica within the allowed lag, or null when reads must go to the primary.
+     */
+    public String nextReplica() {
+        List<Replica> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        int index = Math.floorMod(nextReplica.getAndIncrement(), candidates.size());
+        return candidates.get(index).name;
+    }
+
+    public Map<String, DataSource> replicaDataSources() {
+        return dataSources;
+    }
+
+    /**
+     * Closes the replica pools, which are not beans of their own.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long lagMillis;
+
+        Replica(String name, JdbcTemplate jdbcTemplate) {
+            this.name = name;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+    }
+}
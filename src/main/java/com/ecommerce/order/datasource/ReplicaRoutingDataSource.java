@@ -0,0 +1,67 @@
+package com.ecommerce.order.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to a replica and everything else to the
+ * primary. Read-only transactions still go to the primary when no replica is within the
+ * allowed lag or the current user committed a write moments ago.
+ * <p>
+ * The transaction's read-only flag is only set after the transaction manager asks for a
+ * connection, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers
+ * the lookup to the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Object WRITE_RECORDED = new Object();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+        if (readYourWrites.isRecentWriter()) {
+            return PRIMARY;
+        }
+        String replica = lagMonitor.nextReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    /**
+     * A read-write transaction borrowing a connection is treated as a write by its user,
+     * recorded once the transaction commits.
+     */
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_RECORDED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_RECORDED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_RECORDED);
+            }
+        });
+    }
+}
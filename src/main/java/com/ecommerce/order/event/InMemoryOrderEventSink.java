@@ -0,0 +1,32 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.model.entity.OrderOutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps relayed events in memory; intended for tests and local development.
+ */
+@Component
+@ConditionalOnProperty(value = "app.outbox.sink", havingValue = "memory")
+public class InMemoryOrderEventSink implements OrderEventSink {
+
+    private final List<OrderOutboxEvent> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OrderOutboxEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public List<OrderOutboxEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
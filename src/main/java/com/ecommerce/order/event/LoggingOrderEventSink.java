@@ -0,0 +1,22 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.model.entity.OrderOutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "app.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOrderEventSink implements OrderEventSink {
+
+    @Override
+    public void publish(List<OrderOutboxEvent> events) {
+        for (OrderOutboxEvent event : events) {
+            log.info("Order event {} [{}] for order {}: {}",
+                    event.getEventId(), event.getEventType(), event.getAggregateId(), event.getPayload());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.model.enums.OrderEventType;
+import com.ecommerce.order.model.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload written to the outbox for every order lifecycle change.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderEvent {
+
+    private OrderEventType eventType;
+
+    private UUID orderId;
+
+    private String customerId;
+
+    private OrderStatus status;
+
+    private OrderStatus previousStatus;
+
+    private BigDecimal totalAmount;
+
+    private String currency;
+
+    private String trackingNumber;
+
+    private String reason;
+
+    private String triggeredBy;
+
+    private LocalDateTime occurredAt;
+}
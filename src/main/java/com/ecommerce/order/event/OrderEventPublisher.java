@@ -0,0 +1,87 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.entity.OrderOutboxEvent;
+import com.ecommerce.order.model.enums.OrderEventType;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes order lifecycle events to the outbox table. Must be called inside the
+ * transaction that changes the order so the event commits (or rolls back) with it;
+ * {@link OrderOutboxRelay} delivers the rows afterwards.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderEventPublisher {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public void publishOrderCreated(Order order, String createdBy) {
+        publish(baseEvent(OrderEventType.ORDER_CREATED, order)
+                .triggeredBy(createdBy)
+                .build());
+    }
+
+    public void publishOrderStatusChanged(Order order, OrderStatus previousStatus) {
+        publishOrderStatusChanged(order, previousStatus, order.getStatus());
+    }
+
+    public void publishOrderStatusChanged(Order order, OrderStatus previousStatus, OrderStatus newStatus) {
+        publish(baseEvent(OrderEventType.ORDER_STATUS_CHANGED, order)
+                .status(newStatus)
+                .previousStatus(previousStatus)
+                .trackingNumber(order.getTrackingNumber())
+                .build());
+    }
+
+    public void publishOrderCancelled(Order order, OrderStatus previousStatus) {
+        publish(baseEvent(OrderEventType.ORDER_CANCELLED, order)
+                .previousStatus(previousStatus)
+                .reason(order.getCancelledReason())
+                .triggeredBy(order.getCancelledBy())
+                .build());
+    }
+
+    private OrderEvent.OrderEventBuilder baseEvent(OrderEventType eventType, Order order) {
+        return OrderEvent.builder()
+                .eventType(eventType)
+                .orderId(order.getOrderId())
+                .customerId(order.getCustomerId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .currency(order.getCurrency())
+                .occurredAt(LocalDateTime.now());
+    }
+
+    private void publish(OrderEvent event) {
+        OrderOutboxEvent outboxEvent = OrderOutboxEvent.builder()
+                .aggregateId(event.getOrderId())
+                .eventType(event.getEventType())
+                .payload(toJson(event))
+                .build();
+        
+        outboxRepository.save(outboxEvent);
+        log.debug("Queued {} event for order {}", event.getEventType(), event.getOrderId());
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order event for order " + event.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.model.entity.OrderOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events. Implementations receive events in outbox
+ * order and must throw an unchecked exception if delivery fails so the batch is retried; delivery is
+ * at-least-once, so consumers should de-duplicate on {@code eventId}.
+ */
+public interface OrderEventSink {
+
+    void publish(List<OrderOutboxEvent> events);
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.model.entity.OrderOutboxEvent;
+import com.ecommerce.order.repository.OrderOutboxRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox in creation order and hands each batch to the configured
+ * {@link OrderEventSink}. The batch stays row-locked until it is marked published,
+ * and a failing sink rolls the batch back so it is retried on the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderEventSink eventSink;
+
+    @Getter
+    @Value("${app.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Transactional
+    public int relayBatch() {
+        List<OrderOutboxEvent> batch = outboxRepository.findUnpublishedBatch(batchSize);
+        
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        eventSink.publish(batch);
+        
+        List<Long> eventIds = batch.stream()
+                .map(OrderOutboxEvent::getEventId)
+                .toList();
+        outboxRepository.markPublished(eventIds, LocalDateTime.now());
+        
+        log.debug("Relayed {} order events", batch.size());
+        return batch.size();
+    }
+
+    @Transactional
+    public int purgePublishedBefore(LocalDateTime cutoffDate) {
+        return outboxRepository.deletePublishedBefore(cutoffDate);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.order.export;
+
+import com.ecommerce.order.model.entity.Order;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header row. Values containing separators, quotes or line breaks are quoted.
+ */
+public class CsvOrderExportWriter implements OrderExportWriter {
+
+    private static final String[] COLUMNS = {
+        "order_id", "customer_id", "customer_email", "customer_name", "status",
+        "total_amount", "currency", "payment_method", "payment_status", "tracking_number",
+        "created_at", "updated_at", "processed_at", "shipped_at", "delivered_at", "cancelled_at"
+    };
+
+    private final Writer writer;
+
+    public CsvOrderExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writeLine((Object[]) COLUMNS);
+    }
+
+    @Override
+    public void writeRow(Order order) throws IOException {
+        writeLine(
+            order.getOrderId(),
+            order.getCustomerId(),
+            order.getCustomerEmail(),
+            order.getCustomerName(),
+            order.getStatus(),
+            order.getTotalAmount() != null ? order.getTotalAmount().toPlainString() : null,
+            order.getCurrency(),
+            order.getPaymentMethod(),
+            order.getPaymentStatus(),
+            order.getTrackingNumber(),
+            order.getCreatedAt(),
+            order.getUpdatedAt(),
+            order.getProcessedAt(),
+            order.getShippedAt(),
+            order.getDeliveredAt(),
+            order.getCancelledAt()
+        );
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Only flush: the response stream is owned and closed by the servlet container
+        writer.flush();
+    }
+
+    private void writeLine(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        boolean needsQuoting = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecommerce.order.export;
+
+import com.ecommerce.order.model.entity.Order;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Newline-delimited JSON: one order object per line.
+ */
+public class NdjsonOrderExportWriter implements OrderExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonOrderExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Root values are separated by the newline written after each row
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header line
+    }
+
+    @Override
+    public void writeRow(Order order) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("orderId", order.getOrderId().toString());
+        generator.writeStringField("customerId", order.getCustomerId());
+        writeString("customerEmail", order.getCustomerEmail());
+        writeString("customerName", order.getCustomerName());
+        generator.writeStringField("status", order.getStatus().name());
+        writeAmount("totalAmount", order.getTotalAmount());
+        writeString("currency", order.getCurrency());
+        writeString("paymentMethod", order.getPaymentMethod());
+        writeString("paymentStatus", order.getPaymentStatus());
+        writeString("trackingNumber", order.getTrackingNumber());
+        writeTimestamp("createdAt", order.getCreatedAt());
+        writeTimestamp("updatedAt", order.getUpdatedAt());
+        writeTimestamp("processedAt", order.getProcessedAt());
+        writeTimestamp("shippedAt", order.getShippedAt());
+        writeTimestamp("deliveredAt", order.getDeliveredAt());
+        writeTimestamp("cancelledAt", order.getCancelledAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeString(String field, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value);
+        }
+    }
+
+    private void writeAmount(String field, BigDecimal value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private void writeTimestamp(String field, LocalDateTime value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value.toString());
+        }
+    }
+}
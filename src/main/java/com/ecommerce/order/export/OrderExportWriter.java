@@ -0,0 +1,22 @@
+package com.ecommerce.order.export;
+
+import com.ecommerce.order.model.entity.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes orders one row at a time to an export stream. Only order header columns
+ * are written so that exporting never initializes the lazy item collection.
+ */
+public interface OrderExportWriter extends Closeable {
+
+    void writeHeader() throws IOException;
+
+    void writeRow(Order order) throws IOException;
+
+    /**
+     * Flush buffered rows to the client without closing the underlying response stream.
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.order.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request object for creating many orders in a single call")
+public class BatchCreateOrderRequest {
+
+    @NotEmpty(message = "Batch must contain at least one order")
+    @Size(max = 1000, message = "Batch must not exceed 1000 orders")
+    @Valid
+    @Schema(description = "Orders to create, persisted in the given order")
+    private List<CreateOrderRequest> orders;
+}
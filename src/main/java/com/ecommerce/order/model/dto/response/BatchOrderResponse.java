@@ -0,0 +1,28 @@
+package com.ecommerce.order.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Batch order creation response")
+public class BatchOrderResponse {
+
+    @Schema(description = "Number of orders created", example = "500")
+    private int createdCount;
+
+    @Schema(description = "Identifiers of the created orders, in request order")
+    private List<UUID> orderIds;
+
+    @Schema(description = "Sum of the created orders' total amounts", example = "125000.00")
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.order.model.dto.response;
+
+import com.ecommerce.order.datasource.ConnectionUsageTracker;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Database connection pool state and the methods holding connections longest")
+public class ConnectionPoolStatusResponse {
+
+    @Schema(description = "Pool name", example = "OrderServiceHikariPool")
+    private String poolName;
+
+    @Schema(description = "Connections in use", example = "7")
+    private int activeConnections;
+
+    @Schema(description = "Idle connections", example = "3")
+    private int idleConnections;
+
+    @Schema(description = "Threads waiting for a connection", example = "0")
+    private int pendingThreads;
+
+    @Schema(description = "Current maximum pool size", example = "10")
+    private int maximumPoolSize;
+
+    @Schema(description = "Whether the pool size is adjusted automatically", example = "true")
+    private boolean autoSizing;
+
+    @Schema(description = "Lower bound for automatic sizing", example = "5")
+    private int minSize;
+
+    @Schema(description = "Upper bound for automatic sizing", example = "20")
+    private int maxSize;
+
+    @Schema(description = "Methods by total connection hold time since startup")
+    private List<ConnectionUsageTracker.MethodUsage> topHolders;
+}
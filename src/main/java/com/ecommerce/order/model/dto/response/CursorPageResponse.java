@@ -0,0 +1,30 @@
+package com.ecommerce.order.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cursor-based page of results")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Items in this page")
+    private List<T> content;
+
+    @Schema(description = "Number of items in this page", example = "20")
+    private int size;
+
+    @Schema(description = "Whether more items are available after this page", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page; absent on the last page",
+            example = "MjAyNC0wMS0xNVQwOTozMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+    private String nextCursor;
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.order.model.dto.response;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Order statistics for a customer")
+public class OrderStatisticsResponse {
+
+    @Schema(description = "Customer ID", example = "CUST123")
+    private String customerId;
+
+    @Schema(description = "Total number of orders", example = "25")
+    private long totalOrders;
+
+    @Schema(description = "Number of pending orders", example = "2")
+    private long pendingOrders;
+
+    @Schema(description = "Number of processing orders", example = "1")
+    private long processingOrders;
+
+    @Schema(description = "Number of shipped orders", example = "3")
+    private long shippedOrders;
+
+    @Schema(description = "Number of delivered orders", example = "18")
+    private long deliveredOrders;
+
+    @Schema(description = "Number of cancelled orders", example = "1")
+    private long cancelledOrders;
+
+    @Schema(description = "Sum of all order amounts", example = "12599.50")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "Average order amount", example = "503.98")
+    private BigDecimal averageAmount;
+
+    @Schema(description = "Breakdown per order status; statuses without orders are omitted")
+    private Map<OrderStatus, StatusStatistics> byStatus;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Order statistics for a single status")
+    public static class StatusStatistics {
+
+        @Schema(description = "Number of orders", example = "18")
+        private long count;
+
+        @Schema(description = "Sum of order amounts", example = "9899.82")
+        private BigDecimal totalAmount;
+
+        @Schema(description = "Average order amount", example = "549.99")
+        private BigDecimal averageAmount;
+    }
+}
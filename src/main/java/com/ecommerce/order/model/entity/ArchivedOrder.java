@@ -0,0 +1,50 @@
+package com.ecommerce.order.model.entity;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A terminal order moved to cold storage by {@link com.ecommerce.order.archive.OrderArchiver}.
+ * Only the columns needed to find it are kept; the order itself, items included, is the
+ * compressed {@code document} (see {@link com.ecommerce.order.archive.OrderArchive}).
+ */
+@Entity
+@Table(name = "order_archive", indexes = {
+    @Index(name = "idx_order_archive_customer_created", columnList = "customer_id,created_at,order_id")
+})
+@Getter
+@Setter
+@ToString(exclude = {"document"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedOrder {
+
+    @Id
+    @Column(name = "order_id", updatable = false, nullable = false)
+    private UUID orderId;
+
+    @Column(name = "customer_id", updatable = false, nullable = false, length = 50)
+    private String customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", updatable = false, nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", updatable = false, nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", updatable = false, nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(name = "document", updatable = false, nullable = false)
+    private byte[] document;
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.order.model.entity;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Rollup row holding the number and total amount of a customer's orders in one status.
+ * Rows are only written through delta upserts in {@link com.ecommerce.order.repository.CustomerOrderStatsRepository}.
+ */
+@Entity
+@Table(name = "customer_order_stats")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerOrderStats {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static class Key implements Serializable {
+
+        @Column(name = "customer_id", nullable = false, length = 50)
+        private String customerId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false, length = 20)
+        private OrderStatus status;
+    }
+}
@@ -3,7 +3,6 @@ package com.ecommerce.order.model.entity;
 import com.ecommerce.order.model.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -12,12 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+// Partitioned by month on created_at; the partial index on PENDING orders is defined in V8__Add_order_id_to_keyset_indexes.sql
 @Entity
 @Table(name = "orders", indexes = {
-    @Index(name = "idx_order_customer_id", columnList = "customer_id"),
-    @Index(name = "idx_order_status", columnList = "status"),
-    @Index(name = "idx_order_created_at", columnList = "created_at"),
-    @Index(name = "idx_order_status_created", columnList = "status,created_at")
+    @Index(name = "idx_order_customer_created", columnList = "customer_id,created_at,order_id"),
+    @Index(name = "idx_order_created_at", columnList = "created_at,order_id"),
+    @Index(name = "idx_order_status_created", columnList = "status,created_at,order_id")
 })
 @Getter
 @Setter
@@ -99,7 +98,7 @@ public class Order {
     @Column(name = "delivered_at")
     private LocalDateTime deliveredAt;
 
-    @CreationTimestamp
+    // Partition key, assigned in prePersist so the order's items can copy it before insert
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
 
@@ -115,6 +114,7 @@ public class Order {
     public void addItem(OrderItem item) {
         items.add(item);
         item.setOrder(this);
+        item.setOrderCreatedAt(createdAt);
         recalculateTotal();
     }
 
@@ -174,8 +174,16 @@ public class Order {
     }
 
     @PrePersist
-    @PreUpdate
     public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        items.forEach(item -> item.setOrderCreatedAt(createdAt));
+        preUpdate();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
         if (totalAmount == null) {
             recalculateTotal();
         }
@@ -11,7 +11,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "order_items", indexes = {
-    @Index(name = "idx_order_item_order_id", columnList = "order_id"),
+    @Index(name = "idx_order_item_order_id", columnList = "order_id,order_created_at"),
     @Index(name = "idx_order_item_product_id", columnList = "product_id")
 })
 @Getter
@@ -63,6 +63,10 @@ public class OrderItem {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    // Partition key: items live in the same monthly partition as their order
+    @Column(name = "order_created_at", updatable = false, nullable = false)
+    private LocalDateTime orderCreatedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
@@ -93,6 +97,9 @@ public class OrderItem {
     @PrePersist
     @PreUpdate
     public void prePersist() {
+        if (orderCreatedAt == null && order != null) {
+            orderCreatedAt = order.getCreatedAt();
+        }
         if (subtotal == null) {
             calculateSubtotal();
         }
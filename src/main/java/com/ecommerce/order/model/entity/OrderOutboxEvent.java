@@ -0,0 +1,45 @@
+package com.ecommerce.order.model.entity;
+
+import com.ecommerce.order.model.enums.OrderEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "order_outbox_events", indexes = {
+    @Index(name = "idx_outbox_unpublished", columnList = "created_at,event_id"),
+    @Index(name = "idx_outbox_published_at", columnList = "published_at")
+})
+@Getter
+@Setter
+@ToString(exclude = {"payload"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_event_seq")
+    @SequenceGenerator(name = "order_outbox_event_seq", sequenceName = "order_outbox_event_seq", allocationSize = 50)
+    @Column(name = "event_id", updatable = false, nullable = false)
+    private Long eventId;
+
+    @Column(name = "aggregate_id", updatable = false, nullable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", updatable = false, nullable = false, length = 50)
+    private OrderEventType eventType;
+
+    @Column(name = "payload", updatable = false, nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // Assigned by the database (clock_timestamp()) so relay ordering does not depend on node clocks
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OrderEventType {
+    ORDER_CREATED("Order created"),
+    ORDER_STATUS_CHANGED("Order status changed"),
+    ORDER_CANCELLED("Order cancelled");
+
+    private final String description;
+
+    OrderEventType(String description) {
+        this.description = description;
+    }
+}
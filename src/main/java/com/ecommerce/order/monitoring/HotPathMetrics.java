@@ -0,0 +1,66 @@
+package com.ecommerce.order.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers and counters for the request hot path that are not covered by Spring's own
+ * instrumentation ({@code http.server.requests}, {@code spring.data.repository.invocations},
+ * {@code cache.gets} for the local Caffeine tier). Percentile histograms are switched on per
+ * meter name under {@code management.metrics.distribution}, so recording here stays a few
+ * bucket increments.
+ */
+@Component
+public class HotPathMetrics {
+
+    private final Meter.MeterProvider<Timer> tokenValidations;
+    private final Meter.MeterProvider<Timer> rateLimitChecks;
+    private final Meter.MeterProvider<Timer> sharedCacheGets;
+    private final Meter.MeterProvider<Counter> circuitBreakerFallbacks;
+
+    public HotPathMetrics(MeterRegistry meterRegistry) {
+        this.tokenValidations = Timer.builder("security.jwt.validation")
+                .description("Bearer token verification, including the verified-token cache")
+                .withRegistry(meterRegistry);
+        this.rateLimitChecks = Timer.builder("rate.limit.checks")
+                .description("Rate limit decisions per policy")
+                .withRegistry(meterRegistry);
+        this.sharedCacheGets = Timer.builder("cache.shared.gets")
+                .description("Lookups in the shared Redis cache tier after a local miss")
+                .withRegistry(meterRegistry);
+        this.circuitBreakerFallbacks = Counter.builder("resilience4j.circuitbreaker.fallbacks")
+                .description("Calls answered by a circuit breaker fallback method")
+                .withRegistry(meterRegistry);
+    }
+
+    public void recordTokenValidation(boolean valid, long startNanos) {
+        tokenValidations.withTags("result", valid ? "valid" : "invalid")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param result {@code allowed}, {@code rejected} or {@code error} (limiter unavailable, request allowed)
+     */
+    public void recordRateLimitCheck(String policy, String result, long startNanos) {
+        rateLimitChecks.withTags("policy", policy, "result", result)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param result {@code hit}, {@code miss} or {@code error}
+     */
+    public void recordSharedCacheGet(String cache, String result, long startNanos) {
+        sharedCacheGets.withTags("cache", cache, "result", result)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFallback(String circuitBreaker, String method, Throwable cause) {
+        circuitBreakerFallbacks.withTags("name", circuitBreaker, "method", method,
+                "exception", cause.getClass().getSimpleName()).increment();
+    }
+}
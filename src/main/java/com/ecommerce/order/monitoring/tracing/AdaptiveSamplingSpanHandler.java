@@ -0,0 +1,158 @@
+package com.ecommerce.order.monitoring.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import zipkin2.reporter.Reporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether to export a trace when its local root span (normally the HTTP server
+ * span) finishes, so errors and slow requests are always kept while fast successes are
+ * sampled per endpoint. Child spans are held until the root decides; spans finishing after
+ * the decision follow it. Kept spans are reported here and the handler returns
+ * {@code false}, so the Zipkin handler behind it does not report them a second time.
+ * <p>
+ * The success sample is derived from the trace id, so services sharing this rule keep the
+ * same traces.
+ */
+public class AdaptiveSamplingSpanHandler extends SpanHandler {
+
+    private static final int RATE_SCALE = 10_000;
+    private static final Duration DECISION_RETENTION = Duration.ofMinutes(1);
+
+    private final Reporter<MutableSpan> reporter;
+    private final Rule defaultRule;
+    private final Map<String, List<Rule>> rulesByUri = new HashMap<>();
+    private final int maxSpansPerTrace;
+    private final Cache<Long, PendingTrace> pendingTraces;
+    private final Cache<Long, Boolean> decisions;
+    private final Meter.MeterProvider<Counter> traceDecisions;
+
+    public AdaptiveSamplingSpanHandler(Reporter<MutableSpan> reporter, TraceSamplingProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.reporter = reporter;
+        this.defaultRule = new Rule(null, properties.getSuccessRate(), properties.getSlowThreshold());
+        for (TraceSamplingProperties.Endpoint endpoint : properties.getEndpoints()) {
+            Rule rule = new Rule(
+                    endpoint.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).toList(),
+                    endpoint.getSuccessRate() != null ? endpoint.getSuccessRate() : properties.getSuccessRate(),
+                    endpoint.getSlowThreshold() != null ? endpoint.getSlowThreshold() : properties.getSlowThreshold());
+            rulesByUri.computeIfAbsent(endpoint.getUri(), uri -> new ArrayList<>()).add(rule);
+        }
+        this.maxSpansPerTrace = properties.getMaxSpansPerTrace();
+        // Traces whose root never finishes here (lost or very long) simply age out unexported
+        this.pendingTraces = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxPendingTraces())
+                .expireAfterWrite(DECISION_RETENTION)
+                .build();
+        this.decisions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxPendingTraces())
+                .expireAfterWrite(DECISION_RETENTION)
+                .build();
+        this.traceDecisions = Counter.builder("tracing.traces")
+                .description("Traces by export decision of the adaptive sampler")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.ABANDONED) {
+            return false;
+        }
+
+        long localRootId = context.localRootId();
+        if (!context.isLocalRoot()) {
+            Boolean keep = decisions.getIfPresent(localRootId);
+            if (keep == null) {
+                pendingTraces.get(localRootId, id -> new PendingTrace()).add(span, maxSpansPerTrace);
+            } else if (keep) {
+                reporter.report(span);
+            }
+            return false;
+        }
+
+        String reason = decide(span, context.traceId());
+        boolean keep = reason != null;
+        decisions.put(localRootId, keep);
+        traceDecisions.withTags("decision", keep ? "kept" : "dropped", "reason", keep ? reason : "sampled-out")
+                .increment();
+
+        PendingTrace children = pendingTraces.asMap().remove(localRootId);
+        if (keep) {
+            if (children != null) {
+                children.spans().forEach(reporter::report);
+            }
+            reporter.report(span);
+        }
+        return false;
+    }
+
+    /**
+     * Why the trace is kept, or null to drop it.
+     */
+    String decide(MutableSpan root, long traceId) {
+        if (isError(root)) {
+            return "error";
+        }
+        Rule rule = ruleFor(root.tag("method"), root.tag("uri"));
+        long durationMicros = root.finishTimestamp() - root.startTimestamp();
+        if (durationMicros >= rule.slowThresholdMicros()) {
+            return "slow";
+        }
+        return Math.floorMod(traceId, RATE_SCALE) < rule.successRate() * RATE_SCALE ? "sampled" : null;
+    }
+
+    private Rule ruleFor(String method, String uri) {
+        List<Rule> rules = uri != null ? rulesByUri.get(uri) : null;
+        if (rules != null) {
+            for (Rule rule : rules) {
+                if (rule.methods().isEmpty() || (method != null && rule.methods().contains(method))) {
+                    return rule;
+                }
+            }
+        }
+        return defaultRule;
+    }
+
+    private static boolean isError(MutableSpan span) {
+        return span.error() != null
+                || span.tag("error") != null
+                || "SERVER_ERROR".equals(span.tag("outcome"));
+    }
+
+    private record Rule(List<String> methods, double successRate, long slowThresholdMicros) {
+
+        Rule(List<String> methods, double successRate, Duration slowThreshold) {
+            this(methods != null ? methods : List.of(), successRate,
+                    TimeUnit.NANOSECONDS.toMicros(slowThreshold.toNanos()));
+        }
+    }
+
+    private static class PendingTrace {
+
+        private final List<MutableSpan> spans = new ArrayList<>();
+
+        synchronized void add(MutableSpan span, int maxSpans) {
+            if (spans.size() < maxSpans) {
+                spans.add(span);
+            }
+        }
+
+        synchronized List<MutableSpan> spans() {
+            return new ArrayList<>(spans);
+        }
+    }
+}
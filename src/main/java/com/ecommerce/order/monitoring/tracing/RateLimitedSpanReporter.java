@@ -0,0 +1,51 @@
+package com.ecommerce.order.monitoring.tracing;
+
+import brave.handler.MutableSpan;
+import com.ecommerce.order.security.ratelimit.LocalRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import zipkin2.reporter.AsyncReporter;
+import zipkin2.reporter.Reporter;
+
+import java.io.Closeable;
+import java.time.Duration;
+
+/**
+ * Span reporter that never blocks the request thread: spans over the configured rate are
+ * dropped before encoding, and the bounded async queue drops further spans while the
+ * collector is slow instead of growing.
+ */
+public class RateLimitedSpanReporter implements Reporter<MutableSpan>, Closeable {
+
+    private static final String PERMIT_KEY = "spans";
+    private static final Duration PERMIT_WINDOW = Duration.ofSeconds(1);
+
+    private final AsyncReporter<MutableSpan> delegate;
+    private final LocalRateLimiter limiter = new LocalRateLimiter(1, Duration.ofHours(1));
+    private final int maxSpansPerSecond;
+    private final Counter droppedSpans;
+
+    public RateLimitedSpanReporter(AsyncReporter<MutableSpan> delegate, int maxSpansPerSecond,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxSpansPerSecond = maxSpansPerSecond;
+        this.droppedSpans = Counter.builder("tracing.spans.dropped")
+                .description("Spans not exported because the export rate was exceeded")
+                .tag("reason", "rate-limited")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void report(MutableSpan span) {
+        if (!limiter.tryAcquire(PERMIT_KEY, maxSpansPerSecond, PERMIT_WINDOW).allowed()) {
+            droppedSpans.increment();
+            return;
+        }
+        delegate.report(span);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
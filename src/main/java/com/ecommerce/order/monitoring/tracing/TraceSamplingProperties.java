@@ -0,0 +1,76 @@
+package com.ecommerce.order.monitoring.tracing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Trace sampling under {@code app.tracing.sampling}: every trace that fails or exceeds its
+ * slow threshold is exported, other traces only at their endpoint's success rate.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.tracing.sampling")
+public class TraceSamplingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction of fast, successful traces exported for endpoints without their own rule.
+     */
+    private double successRate = 0.05;
+
+    /**
+     * Traces at least this long are always exported, for endpoints without their own rule.
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    /**
+     * Traces whose local root has not finished yet, holding their child spans.
+     */
+    private int maxPendingTraces = 10_000;
+
+    private int maxSpansPerTrace = 200;
+
+    private Export export = new Export();
+
+    @Data
+    public static class Endpoint {
+
+        /**
+         * Route template as reported in the {@code uri} tag, e.g. {@code /api/v1/orders/{orderId}}.
+         */
+        private String uri;
+
+        /**
+         * HTTP methods the rule applies to; empty for all.
+         */
+        private Set<String> methods = new LinkedHashSet<>();
+
+        private Double successRate;
+
+        private Duration slowThreshold;
+    }
+
+    @Data
+    public static class Export {
+
+        /**
+         * Spans handed to the Zipkin reporter per second; spans over the rate are dropped.
+         */
+        private int maxSpansPerSecond = 500;
+
+        /**
+         * Spans waiting to be sent; further spans are dropped while the collector is slow.
+         */
+        private int queuedMaxSpans = 5_000;
+
+        private Duration messageTimeout = Duration.ofSeconds(1);
+    }
+}
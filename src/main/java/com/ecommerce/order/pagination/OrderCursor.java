@@ -0,0 +1,78 @@
+package com.ecommerce.order.pagination;
+
+import com.ecommerce.order.model.entity.Order;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for keyset pagination over orders sorted by
+ * {@code (createdAt DESC, orderId DESC)}. The token encodes the sort key of the
+ * last row of the previous page; the next page starts strictly after it.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class OrderCursor {
+
+    /**
+     * Sentinel positioned before every real order, used for the first page so that
+     * first and subsequent pages share one index-friendly query shape.
+     */
+    public static final OrderCursor FIRST = new OrderCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            new UUID(-1L, -1L)
+    );
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final UUID orderId;
+
+    private OrderCursor(LocalDateTime createdAt, UUID orderId) {
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+    }
+
+    public static OrderCursor after(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getOrderId());
+    }
+
+    public static OrderCursor of(LocalDateTime createdAt, UUID orderId) {
+        return new OrderCursor(createdAt, orderId);
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}; a blank token means the first page.
+     */
+    public static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.order.partitioning;
+
+import com.ecommerce.order.cache.OrderCacheInvalidator;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.statistics.CustomerOrderStatsRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Creates and retires the monthly partitions of {@code orders} and {@code order_items}
+ * (see {@code V6__Partition_orders_by_created_at.sql}). Retention detaches a whole month at
+ * once instead of deleting rows, so it leaves no dead tuples or index bloat behind.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionManager {
+
+    private static final String ORDERS_PREFIX = "orders_p";
+    private static final String ITEMS_PREFIX = "order_items_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("uuuu_MM");
+
+    private static final String PARTITIONS_QUERY = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'orders'::regclass
+            ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CustomerOrderStatsRollup statsRollup;
+    private final OrderCacheInvalidator cacheInvalidator;
+    private final OrderPartitionProperties properties;
+
+    /**
+     * Make sure partitions exist from {@code current} through {@code months-ahead} later months.
+     */
+    @Transactional
+    public void createPartitionsAhead(YearMonth current) {
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            jdbcTemplate.queryForList("SELECT create_order_partition(?)", current.plusMonths(i).atDay(1));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<YearMonth> attachedPartitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_QUERY, String.class).stream()
+                .map(name -> YearMonth.parse(name.substring(ORDERS_PREFIX.length()), SUFFIX))
+                .toList();
+    }
+
+    /**
+     * Attached months older than the retention window, oldest first.
+     */
+    public List<YearMonth> expiredPartitions(YearMonth current) {
+        if (properties.getRetentionMonths() <= 0) {
+            return List.of();
+        }
+        YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths() - 1L);
+        return attachedPartitions().stream()
+                .filter(month -> month.isBefore(oldestKept))
+                .toList();
+    }
+
+    /**
+     * Detach (and optionally drop) one month of orders and their items, removing them from
+     * the statistics rollup in the same transaction. Returns the number of orders detached.
+     *
+     * @throws IllegalStateException if the month still holds orders other than cancelled
+     *         ones; delivered orders must have been moved to the archive first
+     */
+    @Transactional
+    @CacheEvict(value = OrderCacheInvalidator.ORDERS_CACHE, allEntries = true)
+    public long detach(YearMonth month) {
+        String orders = ORDERS_PREFIX + month.format(SUFFIX);
+        String items = ITEMS_PREFIX + month.format(SUFFIX);
+
+        // Blocks writes to the month until commit, so the check and the rollup aggregate below
+        // see exactly the rows that are detached
+        jdbcTemplate.execute("LOCK TABLE " + orders + " IN SHARE MODE");
+
+        Long retained = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + orders + " WHERE status <> 'CANCELLED'", Long.class);
+        if (retained != null && retained > 0) {
+            throw new IllegalStateException(String.format(
+                    "Partition %s still holds %d orders that are not cancelled; archive them before detaching",
+                    orders, retained));
+        }
+
+        CustomerOrderStatsRollup.Changes changes = new CustomerOrderStatsRollup.Changes();
+        OrderCacheInvalidator.Invalidation invalidation = new OrderCacheInvalidator.Invalidation();
+        long[] detached = {0};
+        jdbcTemplate.query("SELECT customer_id, status, COUNT(*), SUM(total_amount) FROM " + orders
+                + " GROUP BY customer_id, status", rs -> {
+            String customerId = rs.getString(1);
+            OrderStatus status = OrderStatus.valueOf(rs.getString(2));
+            long count = rs.getLong(3);
+            changes.add(customerId, status, -count, rs.getBigDecimal(4).negate());
+            invalidation.customer(customerId).status(status);
+            detached[0] += count;
+        });
+
+        // Items first: the orders partition cannot leave while attached items reference it. The
+        // detached items table keeps a copy of the foreign key, which would block it as well
+        jdbcTemplate.execute("ALTER TABLE order_items DETACH PARTITION " + items);
+        jdbcTemplate.queryForList(
+                        "SELECT conname FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'f'",
+                        String.class, items)
+                .forEach(constraint -> jdbcTemplate.execute(
+                        "ALTER TABLE " + items + " DROP CONSTRAINT \"" + constraint + "\""));
+        jdbcTemplate.execute("ALTER TABLE orders DETACH PARTITION " + orders);
+
+        if (properties.isDropDetached()) {
+            jdbcTemplate.execute("DROP TABLE " + items);
+            jdbcTemplate.execute("DROP TABLE " + orders);
+        }
+
+        statsRollup.apply(changes);
+        cacheInvalidator.invalidate(invalidation);
+
+        log.info("Detached order partition {} with {} orders{}", month, detached[0],
+                properties.isDropDetached() ? " and dropped it" : "");
+        return detached[0];
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.order.partitioning;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Monthly partition maintenance for {@code orders} and {@code order_items} under
+ * {@code app.orders.partitioning}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.orders.partitioning")
+public class OrderPartitionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Months after the current one that must already have partitions. Inserts into a month
+     * without a partition fail, so this must cover the longest expected gap between runs.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Months kept attached, counting the current one; older partitions are detached once they
+     * hold nothing but cancelled orders. 0 (the default) keeps everything.
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * Drop detached partitions instead of leaving them as standalone tables.
+     */
+    private boolean dropDetached = false;
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.entity.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+
+    // Check if archived order exists for customer
+    boolean existsByOrderIdAndCustomerId(UUID orderId, String customerId);
+
+    // Count archived orders by customer
+    long countByCustomerId(String customerId);
+
+    // A customer's hot and archived orders, newest first. Both branches read a
+    // (customer_id, created_at, order_id) index, so Postgres merges them without sorting
+    @Query(value = """
+        SELECT history.order_id AS orderId, history.archived AS archived FROM (
+            SELECT order_id, created_at, false AS archived FROM orders WHERE customer_id = :customerId 
+            UNION ALL 
+            SELECT order_id, created_at, true AS archived FROM order_archive WHERE customer_id = :customerId
+        ) history 
+        ORDER BY history.created_at DESC, history.order_id DESC 
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<OrderHistoryEntry> findCustomerHistory(@Param("customerId") String customerId,
+                                                @Param("limit") int limit,
+                                                @Param("offset") long offset);
+
+    // Keyset variant: entries strictly after the cursor in (created_at DESC, order_id DESC) order.
+    // The row comparison bounds both index scans at the cursor
+    @Query(value = """
+        SELECT history.order_id AS orderId, history.archived AS archived FROM (
+            SELECT order_id, created_at, false AS archived FROM orders 
+            WHERE customer_id = :customerId 
+            AND (created_at, order_id) < (:createdAt, :orderId) 
+            UNION ALL 
+            SELECT order_id, created_at, true AS archived FROM order_archive 
+            WHERE customer_id = :customerId 
+            AND (created_at, order_id) < (:createdAt, :orderId)
+        ) history 
+        ORDER BY history.created_at DESC, history.order_id DESC 
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<OrderHistoryEntry> findCustomerHistoryAfter(@Param("customerId") String customerId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("orderId") UUID orderId,
+                                                     @Param("limit") int limit);
+}
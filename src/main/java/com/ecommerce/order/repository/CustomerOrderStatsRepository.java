@@ -0,0 +1,79 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.entity.CustomerOrderStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface CustomerOrderStatsRepository extends JpaRepository<CustomerOrderStats, CustomerOrderStats.Key> {
+
+    // Add a delta to a customer's status row, creating the row on first use
+    @Modifying
+    @Query(value = """
+        INSERT INTO customer_order_stats (customer_id, status, order_count, total_amount, updated_at) 
+        VALUES (:customerId, :status, :countDelta, :amountDelta, CURRENT_TIMESTAMP) 
+        ON CONFLICT (customer_id, status) DO UPDATE 
+        SET order_count = customer_order_stats.order_count + EXCLUDED.order_count, 
+            total_amount = customer_order_stats.total_amount + EXCLUDED.total_amount, 
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int applyDelta(@Param("customerId") String customerId,
+                   @Param("status") String status,
+                   @Param("countDelta") long countDelta,
+                   @Param("amountDelta") BigDecimal amountDelta);
+
+    // Read a customer's rollup in the same shape as a live aggregate over orders
+    @Query("""
+        SELECT s.id.status AS status, s.orderCount AS orderCount, s.totalAmount AS totalAmount 
+        FROM CustomerOrderStats s 
+        WHERE s.id.customerId = :customerId 
+        AND s.orderCount > 0
+        """)
+    List<OrderStatusAggregate> findStatusAggregates(@Param("customerId") String customerId);
+
+    // Customers whose rollup rows differ from a fresh aggregate over hot and archived orders
+    @Query(value = """
+        SELECT DISTINCT COALESCE(actual.customer_id, stored.customer_id) 
+        FROM (
+            SELECT customer_id, status, COUNT(*) AS order_count, SUM(total_amount) AS total_amount 
+            FROM (
+                SELECT customer_id, status, total_amount FROM orders 
+                UNION ALL 
+                SELECT customer_id, status, total_amount FROM order_archive
+            ) all_orders 
+            GROUP BY customer_id, status
+        ) actual 
+        FULL OUTER JOIN (
+            SELECT customer_id, status, order_count, total_amount 
+            FROM customer_order_stats 
+            WHERE order_count <> 0 OR total_amount <> 0
+        ) stored 
+        ON actual.customer_id = stored.customer_id AND actual.status = stored.status 
+        WHERE actual.order_count IS DISTINCT FROM stored.order_count 
+        OR actual.total_amount IS DISTINCT FROM stored.total_amount
+        """, nativeQuery = true)
+    List<String> findDriftedCustomerIds();
+
+    @Modifying
+    @Query(value = "DELETE FROM customer_order_stats WHERE customer_id = :customerId", nativeQuery = true)
+    int deleteByCustomerId(@Param("customerId") String customerId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO customer_order_stats (customer_id, status, order_count, total_amount, updated_at) 
+        SELECT customer_id, status, COUNT(*), SUM(total_amount), CURRENT_TIMESTAMP 
+        FROM (
+            SELECT customer_id, status, total_amount FROM orders WHERE customer_id = :customerId 
+            UNION ALL 
+            SELECT customer_id, status, total_amount FROM order_archive WHERE customer_id = :customerId
+        ) all_orders 
+        GROUP BY customer_id, status
+        """, nativeQuery = true)
+    int insertFromOrders(@Param("customerId") String customerId);
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of one row of a customer's order history across {@code orders} and
+ * {@code order_archive}, telling which of the two holds the order.
+ */
+public interface OrderHistoryEntry {
+
+    UUID getOrderId();
+
+    Boolean getArchived();
+}
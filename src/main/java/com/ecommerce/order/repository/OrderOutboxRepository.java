@@ -0,0 +1,39 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.entity.OrderOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // Lock the next batch of unpublished events in creation order
+    @Query(value = """
+        SELECT e.* FROM order_outbox_events e 
+        WHERE e.published_at IS NULL 
+        ORDER BY e.created_at ASC, e.event_id ASC 
+        LIMIT :batchSize
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<OrderOutboxEvent> findUnpublishedBatch(@Param("batchSize") int batchSize);
+
+    // Mark a relayed batch as published
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.eventId IN :eventIds")
+    int markPublished(@Param("eventIds") List<Long> eventIds,
+                      @Param("publishedAt") LocalDateTime publishedAt);
+
+    // Count events still waiting for the relay
+    long countByPublishedAtIsNull();
+
+    // Delete events published before the retention cutoff
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.publishedAt < :cutoffDate")
+    int deletePublishedBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+}
@@ -13,12 +13,14 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order>,
+        OrderStreamingRepository {
 
     // Find orders by customer ID
     Page<Order> findByCustomerId(String customerId, Pageable pageable);
@@ -61,16 +63,8 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     @Query("SELECT o FROM Order o WHERE o.totalAmount > :amount")
     Page<Order> findOrdersWithTotalAmountGreaterThan(@Param("amount") BigDecimal amount, Pageable pageable);
 
-    // Get order statistics by customer
-    @Query("""
-        SELECT o.customerId, COUNT(o), SUM(o.totalAmount), AVG(o.totalAmount) 
-        FROM Order o 
-        WHERE o.customerId = :customerId 
-        GROUP BY o.customerId
-        """)
-    List<Object[]> getOrderStatisticsByCustomer(@Param("customerId") String customerId);
-
-    // Find orders for status update job
+    // Find orders for status update job. Every partition is probed, but only through its
+    // PENDING partial index, which holds just the orders still waiting
     @Query(value = """
         SELECT o.* FROM orders o 
         WHERE o.status = 'PENDING' 
@@ -85,10 +79,28 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     // Check if order exists for customer
     boolean existsByOrderIdAndCustomerId(UUID orderId, String customerId);
 
-    // Delete old cancelled orders
+    // Terminal orders created before the cutoff, oldest first, for the archiver
+    @Query(value = """
+        SELECT o.order_id FROM orders o 
+        WHERE o.status IN ('DELIVERED', 'CANCELLED') 
+        AND o.created_at < :cutoff 
+        ORDER BY o.created_at ASC 
+        LIMIT :batchSize
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<UUID> findOrderIdsForArchiving(@Param("cutoff") LocalDateTime cutoff,
+                                        @Param("batchSize") int batchSize);
+
+    // Find orders with items by ids (avoiding N+1 problem)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.orderId IN :orderIds")
+    List<Order> findAllByIdWithItems(@Param("orderIds") Collection<UUID> orderIds);
+
+    // Delete archived orders; their items follow through ON DELETE CASCADE. The cutoff limits
+    // the delete to the partitions the archiver read from
     @Modifying
-    @Query("DELETE FROM Order o WHERE o.status = 'CANCELLED' AND o.cancelledAt < :cutoffDate")
-    int deleteOldCancelledOrders(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("DELETE FROM Order o WHERE o.orderId IN :orderIds AND o.createdAt < :cutoff")
+    int deleteArchived(@Param("orderIds") Collection<UUID> orderIds,
+                       @Param("cutoff") LocalDateTime cutoff);
 
     // Find orders with specific payment status
     Page<Order> findByPaymentStatus(String paymentStatus, Pageable pageable);
@@ -96,21 +108,27 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     // Search orders by tracking number
     Optional<Order> findByTrackingNumber(String trackingNumber);
 
-    // Complex search with multiple criteria
-    @Query("""
-        SELECT o FROM Order o 
-        WHERE (:customerId IS NULL OR o.customerId = :customerId)
-        AND (:status IS NULL OR o.status = :status)
-        AND (:startDate IS NULL OR o.createdAt >= :startDate)
-        AND (:endDate IS NULL OR o.createdAt <= :endDate)
-        AND (:minAmount IS NULL OR o.totalAmount >= :minAmount)
-        AND (:maxAmount IS NULL OR o.totalAmount <= :maxAmount)
-        """)
-    Page<Order> searchOrders(@Param("customerId") String customerId,
-                             @Param("status") OrderStatus status,
-                             @Param("startDate") LocalDateTime startDate,
-                             @Param("endDate") LocalDateTime endDate,
-                             @Param("minAmount") BigDecimal minAmount,
-                             @Param("maxAmount") BigDecimal maxAmount,
-                             Pageable pageable);
-}
\ No newline at end of file
+    // Keyset pagination: orders strictly after the cursor in (createdAt DESC, orderId DESC) order.
+    // Callers pass an unsorted Pageable only to bound the result size; no count query is issued.
+    // Native for the row comparison, which Postgres uses as a bound on the (created_at, order_id)
+    // index; the equivalent OR expansion is only applied as a filter
+    @Query(value = """
+        SELECT o.* FROM orders o 
+        WHERE (o.created_at, o.order_id) < (:createdAt, :orderId) 
+        ORDER BY o.created_at DESC, o.order_id DESC
+        """, nativeQuery = true)
+    List<Order> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                              @Param("orderId") UUID orderId,
+                              Pageable pageable);
+
+    @Query(value = """
+        SELECT o.* FROM orders o 
+        WHERE o.status = :#{#status.name()} 
+        AND (o.created_at, o.order_id) < (:createdAt, :orderId) 
+        ORDER BY o.created_at DESC, o.order_id DESC
+        """, nativeQuery = true)
+    List<Order> findPageByStatusAfter(@Param("status") OrderStatus status,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("orderId") UUID orderId,
+                                      Pageable pageable);
+}
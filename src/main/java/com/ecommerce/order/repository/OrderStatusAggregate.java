@@ -0,0 +1,17 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of one row of a per-status aggregate over a customer's orders.
+ */
+public interface OrderStatusAggregate {
+
+    OrderStatus getStatus();
+
+    long getOrderCount();
+
+    BigDecimal getTotalAmount();
+}
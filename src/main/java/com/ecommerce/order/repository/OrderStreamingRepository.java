@@ -0,0 +1,19 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.search.OrderSearchCriteria;
+
+import java.util.stream.Stream;
+
+/**
+ * Streaming queries that Spring Data's derived and fluent queries cannot express, because
+ * they need JDBC hints on a query built from criteria. Mixed into {@link OrderRepository}.
+ */
+public interface OrderStreamingRepository {
+
+    /**
+     * Orders matching the search criteria, oldest first, read through a server-side cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    Stream<Order> streamSearchOrders(OrderSearchCriteria criteria);
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.search.OrderSearchCriteria;
+import com.ecommerce.order.search.OrderSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class OrderStreamingRepositoryImpl implements OrderStreamingRepository {
+
+    // Rows fetched from Postgres per round trip; the result set is never held in full
+    private static final int FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<Order> streamSearchOrders(OrderSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Order> query = cb.createQuery(Order.class);
+        Root<Order> root = query.from(Order.class);
+
+        // The same predicates as the paged search, so each filter combination gets its own plan
+        Predicate predicate = OrderSpecifications.matching(criteria).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("orderId")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.scheduler;
+
+import com.ecommerce.order.statistics.CustomerOrderStatsRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    value = "app.statistics.reconciliation.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class CustomerOrderStatsReconciliationScheduler {
+
+    private final CustomerOrderStatsRollup statsRollup;
+
+    // Compares the rollup with a full aggregate over orders, so keep it off-peak
+    @Scheduled(cron = "${app.statistics.reconciliation.cron:0 0 4 * * *}")
+    @SchedulerLock(name = "CustomerOrderStatsReconciliationScheduler_reconcile", 
+                   lockAtLeastFor = "5m", 
+                   lockAtMostFor = "55m")
+    public void reconcile() {
+        try {
+            int repaired = statsRollup.reconcile();
+            log.info("Order statistics reconciliation completed, {} customers repaired", repaired);
+        } catch (Exception e) {
+            log.error("Error reconciling order statistics rollup", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.order.scheduler;
+
+import com.ecommerce.order.archive.OrderArchiveProperties;
+import com.ecommerce.order.archive.OrderArchiver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    value = "app.orders.archive.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class OrderArchiveScheduler {
+
+    private final OrderArchiver orderArchiver;
+    private final OrderArchiveProperties properties;
+
+    @Scheduled(cron = "${app.orders.archive.cron:0 30 2 * * *}")
+    @SchedulerLock(name = "OrderArchiveScheduler_archiveTerminalOrders", 
+                   lockAtLeastFor = "5m", 
+                   lockAtMostFor = "55m")
+    public void archiveTerminalOrders() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getOlderThan());
+        long archived = 0;
+        int batches = 0;
+        
+        try {
+            // One transaction per batch keeps locks and the persistence context small
+            int moved;
+            do {
+                moved = orderArchiver.archiveBatch(cutoff, properties.getBatchSize());
+                archived += moved;
+                batches++;
+            } while (moved > 0 && (properties.getMaxBatchesPerRun() <= 0 || batches < properties.getMaxBatchesPerRun()));
+            
+            log.info("Archived {} orders created before {} in {} batches", archived, cutoff, batches);
+        } catch (Exception e) {
+            log.error("Error in scheduled task: Order Archive (archived {} orders before failing)", archived, e);
+        }
+    }
+}
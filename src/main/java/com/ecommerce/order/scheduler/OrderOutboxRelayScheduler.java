@@ -0,0 +1,68 @@
+package com.ecommerce.order.scheduler;
+
+import com.ecommerce.order.event.OrderOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    value = "app.outbox.relay.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class OrderOutboxRelayScheduler {
+
+    private final OrderOutboxRelay outboxRelay;
+
+    @Value("${app.outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // A single relay instance cluster-wide keeps delivery in outbox order
+    @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay:1000}")
+    @SchedulerLock(name = "OrderOutboxRelayScheduler_relayEvents", 
+                   lockAtMostFor = "2m")
+    public void relayEvents() {
+        int relayed = 0;
+        
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int count = outboxRelay.relayBatch();
+                relayed += count;
+                if (count < outboxRelay.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error relaying order events after {} delivered in this run", relayed, e);
+        }
+        
+        if (relayed > 0) {
+            log.info("Relayed {} order events", relayed);
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    @SchedulerLock(name = "OrderOutboxRelayScheduler_purgePublishedEvents", 
+                   lockAtLeastFor = "1m", 
+                   lockAtMostFor = "30m")
+    public void purgePublishedEvents() {
+        try {
+            int deleted = outboxRelay.purgePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+            log.info("Purged {} published order events older than {} days", deleted, retentionDays);
+        } catch (Exception e) {
+            log.error("Error purging published order events", e);
+        }
+    }
+}
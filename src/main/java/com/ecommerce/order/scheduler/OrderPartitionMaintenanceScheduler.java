@@ -0,0 +1,59 @@
+package com.ecommerce.order.scheduler;
+
+import com.ecommerce.order.partitioning.OrderPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    value = "app.orders.partitioning.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class OrderPartitionMaintenanceScheduler {
+
+    private final OrderPartitionManager partitionManager;
+
+    // Covers deployments that were down over a month boundary; creating existing partitions is a no-op
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        try {
+            partitionManager.createPartitionsAhead(YearMonth.now());
+        } catch (Exception e) {
+            log.error("Error creating order partitions on startup", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.orders.partitioning.cron:0 0 3 * * *}")
+    @SchedulerLock(name = "OrderPartitionMaintenanceScheduler_maintain", 
+                   lockAtLeastFor = "5m", 
+                   lockAtMostFor = "55m")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        
+        try {
+            partitionManager.createPartitionsAhead(current);
+            
+            for (YearMonth month : partitionManager.expiredPartitions(current)) {
+                try {
+                    partitionManager.detach(month);
+                } catch (IllegalStateException e) {
+                    log.warn("Kept order partition {}: {}", month, e.getMessage());
+                }
+            }
+            log.info("Order partition maintenance completed");
+        } catch (Exception e) {
+            log.error("Error in scheduled task: Order Partition Maintenance", e);
+        }
+    }
+}
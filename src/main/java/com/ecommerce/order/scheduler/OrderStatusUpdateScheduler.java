@@ -40,22 +40,6 @@ public class OrderStatusUpdateScheduler {
         }
     }
 
-    @Scheduled(cron = "0 0 2 * * *") // Run at 2 AM every day
-    @SchedulerLock(name = "OrderStatusUpdateScheduler_cleanupOldOrders", 
-                   lockAtLeastFor = "5m", 
-                   lockAtMostFor = "55m")
-    public void cleanupOldCancelledOrders() {
-        log.info("Starting scheduled task: Cleanup Old Cancelled Orders at {}", 
-                LocalDateTime.now().format(DATE_TIME_FORMATTER));
-        
-        try {
-            int deletedCount = orderService.deleteOldCancelledOrders(30); // Delete orders cancelled more than 30 days ago
-            log.info("Completed scheduled task: Deleted {} old cancelled orders", deletedCount);
-        } catch (Exception e) {
-            log.error("Error in scheduled task: Cleanup Old Cancelled Orders", e);
-        }
-    }
-
     @Scheduled(cron = "0 */30 * * * *") // Every 30 minutes
     public void logSystemStatus() {
         log.info("System Health Check - All schedulers are running normally at {}", 
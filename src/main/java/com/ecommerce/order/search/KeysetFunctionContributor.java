@@ -0,0 +1,31 @@
+package com.ecommerce.order.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@value #KEYSET_BEFORE}{@code (a, b, x, y)}, rendered as the row comparison
+ * {@code (a, b) < (x, y)}. JPA criteria can only spell this as
+ * {@code a < x OR (a = x AND b < y)}, which Postgres applies as a filter; the row form is an
+ * index bound on {@code (a, b)}, so a keyset page starts at the cursor instead of scanning
+ * down to it. Loaded by Hibernate through {@code META-INF/services}.
+ */
+public class KeysetFunctionContributor implements FunctionContributor {
+
+    public static final String KEYSET_BEFORE = "keyset_before";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(KEYSET_BEFORE, "((?1, ?2) < (?3, ?4))")
+                .setExactArgumentCount(4)
+                .setInvariantType(booleanType)
+                .register();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.order.search;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filters for order search. Every field is optional; only the ones that are set become
+ * predicates (see {@link OrderSpecifications#matching(OrderSearchCriteria)}).
+ */
+@Getter
+@Builder
+@ToString
+public class OrderSearchCriteria {
+
+    private final String customerId;
+    private final Set<OrderStatus> statuses;
+    private final String paymentStatus;
+    private final String productId;
+    private final LocalDateTime startDate;
+    /**
+     * Exclusive upper bound: the start of the day after the requested end date, so orders from
+     * the whole last day match whatever the fractional seconds of their timestamp.
+     */
+    private final LocalDateTime endDate;
+    private final BigDecimal minAmount;
+    private final BigDecimal maxAmount;
+
+    /**
+     * Build criteria from raw request parameters. Dates are {@code YYYY-MM-DD} and both ends
+     * are inclusive days; blank values are ignored.
+     *
+     * @throws IllegalArgumentException if a status or date cannot be parsed
+     */
+    public static OrderSearchCriteria of(String customerId, List<String> statuses,
+                                         String paymentStatus, String productId,
+                                         String startDate, String endDate,
+                                         Double minAmount, Double maxAmount) {
+        return OrderSearchCriteria.builder()
+                .customerId(blankToNull(customerId))
+                .statuses(parseStatuses(statuses))
+                .paymentStatus(blankToNull(paymentStatus))
+                .productId(blankToNull(productId))
+                .startDate(startOfDay(startDate))
+                .endDate(startOfDayAfter(endDate))
+                .minAmount(minAmount != null ? BigDecimal.valueOf(minAmount) : null)
+                .maxAmount(maxAmount != null ? BigDecimal.valueOf(maxAmount) : null)
+                .build();
+    }
+
+    /**
+     * Start of the given {@code YYYY-MM-DD} day, or null for a blank value.
+     */
+    public static LocalDateTime startOfDay(String date) {
+        LocalDate day = parseDate(date);
+        return day != null ? day.atStartOfDay() : null;
+    }
+
+    /**
+     * Start of the day after the given {@code YYYY-MM-DD} day, for use as an exclusive bound,
+     * or null for a blank value.
+     */
+    public static LocalDateTime startOfDayAfter(String date) {
+        LocalDate day = parseDate(date);
+        return day != null ? day.plusDays(1).atStartOfDay() : null;
+    }
+
+    private static LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + date + "', expected YYYY-MM-DD", e);
+        }
+    }
+
+    private static Set<OrderStatus> parseStatuses(List<String> statuses) {
+        if (statuses == null) {
+            return null;
+        }
+
+        Set<OrderStatus> parsed = EnumSet.noneOf(OrderStatus.class);
+        for (String status : statuses) {
+            if (status != null && !status.isBlank()) {
+                parsed.add(OrderStatus.fromString(status.trim()));
+            }
+        }
+        return parsed.isEmpty() ? null : parsed;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
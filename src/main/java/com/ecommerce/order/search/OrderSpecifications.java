@@ -0,0 +1,139 @@
+package com.ecommerce.order.search;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.entity.OrderItem;
+import com.ecommerce.order.model.enums.OrderStatus;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Order search predicates. Unlike a catch-all {@code (:param IS NULL OR ...)} query, each
+ * combination of filters produces SQL containing only the predicates that were supplied, so
+ * Postgres plans it against the matching index instead of one generic plan for all of them.
+ */
+public final class OrderSpecifications {
+
+    /**
+     * Sort properties backed by an index on {@code orders}; anything else would sort in memory.
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "status", "customerId");
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> matching(OrderSearchCriteria criteria) {
+        List<Specification<Order>> specifications = new ArrayList<>();
+
+        if (criteria.getCustomerId() != null) {
+            specifications.add(hasCustomerId(criteria.getCustomerId()));
+        }
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            specifications.add(hasStatusIn(criteria.getStatuses()));
+        }
+        if (criteria.getPaymentStatus() != null) {
+            specifications.add(hasPaymentStatus(criteria.getPaymentStatus()));
+        }
+        if (criteria.getProductId() != null) {
+            specifications.add(containsProduct(criteria.getProductId()));
+        }
+        if (criteria.getStartDate() != null) {
+            specifications.add(createdOnOrAfter(criteria.getStartDate()));
+        }
+        if (criteria.getEndDate() != null) {
+            specifications.add(createdBefore(criteria.getEndDate()));
+        }
+        if (criteria.getMinAmount() != null) {
+            specifications.add(totalAtLeast(criteria.getMinAmount()));
+        }
+        if (criteria.getMaxAmount() != null) {
+            specifications.add(totalAtMost(criteria.getMaxAmount()));
+        }
+
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Order> hasCustomerId(String customerId) {
+        return (root, query, cb) -> cb.equal(root.get("customerId"), customerId);
+    }
+
+    public static Specification<Order> hasStatusIn(Collection<OrderStatus> statuses) {
+        if (statuses.size() == 1) {
+            OrderStatus status = statuses.iterator().next();
+            return (root, query, cb) -> cb.equal(root.get("status"), status);
+        }
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Order> hasPaymentStatus(String paymentStatus) {
+        return (root, query, cb) -> cb.equal(root.get("paymentStatus"), paymentStatus);
+    }
+
+    // EXISTS rather than a join, so an order with several matching items is returned once
+    // and the count query needs no DISTINCT
+    public static Specification<Order> containsProduct(String productId) {
+        return (root, query, cb) -> {
+            Subquery<UUID> items = query.subquery(UUID.class);
+            Root<OrderItem> item = items.from(OrderItem.class);
+            items.select(item.get("itemId"))
+                    .where(cb.equal(item.get("order"), root),
+                           cb.equal(item.get("productId"), productId));
+            return cb.exists(items);
+        };
+    }
+
+    public static Specification<Order> createdOnOrAfter(LocalDateTime startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), startDate);
+    }
+
+    public static Specification<Order> createdBefore(LocalDateTime endDate) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), endDate);
+    }
+
+    public static Specification<Order> totalAtLeast(BigDecimal minAmount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalAmount"), minAmount);
+    }
+
+    public static Specification<Order> totalAtMost(BigDecimal maxAmount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalAmount"), maxAmount);
+    }
+
+    /**
+     * Keyset predicate: orders strictly after the cursor in {@code (createdAt DESC, orderId DESC)}
+     * order, as a row comparison that bounds the index scan (see {@link KeysetFunctionContributor}).
+     */
+    public static Specification<Order> after(LocalDateTime createdAt, UUID orderId) {
+        return (root, query, cb) -> cb.isTrue(cb.function(
+                KeysetFunctionContributor.KEYSET_BEFORE, Boolean.class,
+                root.get("createdAt"), root.get("orderId"), cb.literal(createdAt), cb.literal(orderId)));
+    }
+
+    /**
+     * Restrict a requested sort to {@link #SORTABLE_PROPERTIES} and make it total, so page
+     * boundaries are stable: ties fall back to {@code createdAt DESC, orderId DESC}.
+     */
+    public static Sort indexedSort(Sort requested) {
+        for (Sort.Order order : requested) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException(String.format(
+                        "Cannot sort orders by '%s'. Sortable fields: %s", order.getProperty(), SORTABLE_PROPERTIES));
+            }
+        }
+
+        Sort sort = requested;
+        if (requested.getOrderFor("createdAt") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
+        Sort.Direction tieBreak = sort.getOrderFor("createdAt").getDirection();
+        return sort.and(Sort.by(tieBreak, "orderId"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.order.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Short-lived cache of the principals resolved for bearer tokens, so authenticated requests
+ * do not load the user and its roles from the database each time. Entries are evicted on
+ * logout, password changes and account locks; lookups that fail (unknown, disabled or
+ * locked users) are never cached.
+ */
+@Slf4j
+@Component
+public class AuthenticatedPrincipalCache {
+
+    public static final String USER_PRINCIPALS_CACHE = "user-principals";
+
+    private final UserDetailsService userDetailsService;
+    private final CacheManager cacheManager;
+
+    public AuthenticatedPrincipalCache(UserDetailsService userDetailsService, CacheManager cacheManager) {
+        this.userDetailsService = userDetailsService;
+        this.cacheManager = cacheManager;
+    }
+
+    @Cacheable(value = USER_PRINCIPALS_CACHE, key = "#username", sync = true)
+    public UserDetails loadPrincipal(String username) {
+        return userDetailsService.loadUserByUsername(username);
+    }
+
+    /**
+     * Inside a transaction the entry is evicted once it completes, whatever the outcome, so a
+     * concurrent request cannot re-cache the user as it was before the change.
+     */
+    public void evict(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(username);
+                }
+            });
+        } else {
+            evictNow(username);
+        }
+    }
+
+    private void evictNow(String username) {
+        Cache cache = cacheManager.getCache(USER_PRINCIPALS_CACHE);
+        if (cache != null) {
+            cache.evict(username);
+            log.debug("Evicted cached principal for user: {}", username);
+        }
+    }
+}
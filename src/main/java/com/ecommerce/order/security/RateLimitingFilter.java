@@ -1,5 +1,11 @@
 package com.ecommerce.order.security;
 
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import com.ecommerce.order.security.ratelimit.RateLimitDecision;
+import com.ecommerce.order.security.ratelimit.RateLimitPolicy;
+import com.ecommerce.order.security.ratelimit.RateLimitPolicyResolver;
+import com.ecommerce.order.security.ratelimit.RateLimiter;
+import com.ecommerce.order.security.ratelimit.RedisRateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,7 +25,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -27,17 +32,15 @@ import java.util.concurrent.TimeUnit;
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisRateLimiter redisRateLimiter;
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicyResolver policyResolver;
     private final ObjectMapper objectMapper;
+    private final HotPathMetrics metrics;
 
     @Value("${rate-limit.enabled:true}")
     private boolean rateLimitEnabled;
 
-    @Value("${rate-limit.requests-per-minute:100}")
-    private int requestsPerMinute;
-
-    @Value("${rate-limit.window-size-minutes:1}")
-    private int windowSizeMinutes;
-
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                   HttpServletResponse response,
@@ -48,55 +51,58 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             return;
         }
 
-        String clientId = getClientIdentifier(request);
-        String endpoint = request.getMethod() + ":" + request.getRequestURI();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        RateLimitPolicy policy = policyResolver.resolve(request, authentication);
+        if (policy.isUnlimited()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientId = getClientIdentifier(request, authentication);
+        // Buckets are per policy rather than per URI, so path variables cannot multiply keys
+        String bucket = bucket(policy, request.getMethod());
         
-        if (isRateLimited(clientId, endpoint)) {
-            handleRateLimitExceeded(response, clientId, endpoint);
+        RateLimitDecision decision = checkRateLimit(clientId, bucket, policy);
+        if (!decision.allowed()) {
+            handleRateLimitExceeded(response, decision, policy, request.getRequestURI());
             return;
         }
 
+        response.setHeader("X-RateLimit-Limit", String.valueOf(policy.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
         filterChain.doFilter(request, response);
     }
 
-    private boolean isRateLimited(String clientId, String endpoint) {
-        String key = "rate_limit:" + clientId + ":" + endpoint;
-        long currentTime = Instant.now().toEpochMilli();
-        long windowStart = currentTime - (windowSizeMinutes * 60 * 1000L);
-
+    private RateLimitDecision checkRateLimit(String clientId, String bucket, RateLimitPolicy policy) {
+        long start = System.nanoTime();
         try {
-            // Remove old entries outside the sliding window
-            redisTemplate.opsForZSet().removeRangeByScore(key, 0, windowStart);
-
-            // Count requests in current window
-            Long requestCount = redisTemplate.opsForZSet().count(key, windowStart, currentTime);
-
-            if (requestCount != null && requestCount < requestsPerMinute) {
-                // Add current request to the window
-                redisTemplate.opsForZSet().add(key, UUID.randomUUID().toString(), currentTime);
-                
-                // Set expiration for the key
-                redisTemplate.expire(key, windowSizeMinutes, TimeUnit.MINUTES);
-                
-                log.debug("Rate limit check passed for client: {} endpoint: {} ({}/{})", 
-                    clientId, endpoint, requestCount + 1, requestsPerMinute);
-                return false;
+            RateLimitDecision decision = rateLimiter.tryAcquire(
+                    redisRateLimiter.key(clientId, bucket), policy.limit(), policy.window());
+
+            if (decision.allowed()) {
+                log.debug("Rate limit check passed for client: {} bucket: {} ({} remaining)",
+                    clientId, bucket, decision.remaining());
+            } else {
+                log.warn("Rate limit exceeded for client: {} bucket: {} (retry in {} ms)",
+                    clientId, bucket, decision.retryAfterMillis());
             }
-
-            log.warn("Rate limit exceeded for client: {} endpoint: {} ({})", 
-                clientId, endpoint, requestCount);
-            return true;
+            metrics.recordRateLimitCheck(policy.name(), decision.allowed() ? "allowed" : "rejected", start);
+            return decision;
 
         } catch (Exception e) {
-            log.error("Error checking rate limit for client: {} endpoint: {}", clientId, endpoint, e);
+            log.error("Error checking rate limit for client: {} bucket: {}", clientId, bucket, e);
+            metrics.recordRateLimitCheck(policy.name(), "error", start);
             // In case of Redis failure, allow the request
-            return false;
+            return RateLimitDecision.allow(policy.limit());
         }
     }
 
-    private String getClientIdentifier(HttpServletRequest request) {
+    private static String bucket(RateLimitPolicy policy, String method) {
+        return policy.name() + ":" + method;
+    }
+
+    private String getClientIdentifier(HttpServletRequest request, Authentication authentication) {
         // Try to get authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated() && 
             !"anonymousUser".equals(authentication.getPrincipal())) {
             return "user:" + authentication.getName();
@@ -119,22 +125,25 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         return "ip:" + clientIp;
     }
 
-    private void handleRateLimitExceeded(HttpServletResponse response, String clientId, String endpoint) 
-            throws IOException {
+    private void handleRateLimitExceeded(HttpServletResponse response, RateLimitDecision decision,
+                                         RateLimitPolicy policy, String path) throws IOException {
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         
         // Add rate limit headers
-        response.setHeader("X-RateLimit-Limit", String.valueOf(requestsPerMinute));
-        response.setHeader("X-RateLimit-Window", windowSizeMinutes + "m");
-        response.setHeader("X-RateLimit-Retry-After", String.valueOf(windowSizeMinutes * 60));
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(policy.limit()));
+        response.setHeader("X-RateLimit-Remaining", "0");
+        response.setHeader("X-RateLimit-Window", policy.windowMinutes() + "m");
+        response.setHeader("X-RateLimit-Retry-After", String.valueOf(retryAfterSeconds));
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
 
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("timestamp", Instant.now().toString());
         errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
         errorResponse.put("error", "Too Many Requests");
         errorResponse.put("message", "Rate limit exceeded. Please try again later.");
-        errorResponse.put("path", endpoint);
+        errorResponse.put("path", path);
 
         response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
     }
@@ -153,18 +162,18 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     /**
      * Get current rate limit status for a client
      */
-    public Map<String, Object> getRateLimitStatus(String clientId, String endpoint) {
-        String key = "rate_limit:" + clientId + ":" + endpoint;
+    public Map<String, Object> getRateLimitStatus(String clientId, RateLimitPolicy policy, String method) {
         long currentTime = Instant.now().toEpochMilli();
-        long windowStart = currentTime - (windowSizeMinutes * 60 * 1000L);
-
-        Long requestCount = redisTemplate.opsForZSet().count(key, windowStart, currentTime);
+        String key = redisRateLimiter.key(clientId, bucket(policy, method));
+        long remaining = redisRateLimiter.remaining(key, policy.limit(), policy.window());
 
         Map<String, Object> status = new HashMap<>();
-        status.put("limit", requestsPerMinute);
-        status.put("remaining", Math.max(0, requestsPerMinute - (requestCount != null ? requestCount : 0)));
-        status.put("reset", Instant.ofEpochMilli(currentTime + (windowSizeMinutes * 60 * 1000L)));
-        status.put("window", windowSizeMinutes + " minutes");
+        status.put("policy", policy.name());
+        status.put("limit", policy.limit());
+        status.put("remaining", remaining);
+        status.put("reset", Instant.ofEpochMilli(currentTime + policy.window().toMillis()));
+        status.put("window", policy.windowMinutes() + " minutes");
+        status.put("algorithm", redisRateLimiter.getAlgorithm());
         
         return status;
     }
@@ -173,7 +182,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
      * Reset rate limit for a specific client (admin function)
      */
     public void resetRateLimit(String clientId) {
-        Set<String> keys = redisTemplate.keys("rate_limit:" + clientId + ":*");
+        Set<String> keys = redisTemplate.keys(redisRateLimiter.clientKeyPattern(clientId));
         if (keys != null && !keys.isEmpty()) {
             redisTemplate.delete(keys);
             log.info("Reset rate limit for client: {}", clientId);
@@ -0,0 +1,242 @@
+package com.ecommerce.order.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hybrid limiter: each node leases a batch of permits per key from {@link RedisRateLimiter}
+ * and spends them from a local counter, so Redis sees one call per batch instead of one per
+ * request. Leased permits count against the global limit, so the limit is never exceeded;
+ * unused permits go back to Redis when the lease expires. A refusal is also remembered
+ * locally until a permit could free up.
+ *
+ * <p>{@code batch-size} and {@code lease-duration} trade accuracy for round trips: larger
+ * batches mean fewer calls but more permits parked on one node while others are refused.
+ * While Redis is unreachable each node limits on its own to {@code fallback-fraction} of the
+ * limit rather than failing open.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(value = "rate-limit.leasing.enabled", havingValue = "true")
+public class LeasingRateLimiter implements RateLimiter {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int LOCK_STRIPES = 64;
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final LocalRateLimiter fallbackLimiter;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final double fallbackFraction;
+    private final Cache<String, Lease> leases;
+    private final ReentrantLock[] leaseLocks = new ReentrantLock[LOCK_STRIPES];
+
+    // While Redis is failing, skip it until this time instead of paying a timeout per request
+    private volatile long redisRetryAtNanos = System.nanoTime();
+
+    public LeasingRateLimiter(RedisRateLimiter redisRateLimiter,
+                              @Value("${rate-limit.leasing.batch-size:10}") int batchSize,
+                              @Value("${rate-limit.leasing.lease-duration:1s}") Duration leaseDuration,
+                              @Value("${rate-limit.leasing.fallback-fraction:0.1}") double fallbackFraction,
+                              @Value("${rate-limit.leasing.max-keys:100000}") long maxKeys) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.batchSize = batchSize;
+        this.leaseDuration = leaseDuration;
+        this.fallbackFraction = fallbackFraction;
+        this.fallbackLimiter = new LocalRateLimiter(maxKeys, Duration.ofMinutes(10));
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            leaseLocks[i] = new ReentrantLock();
+        }
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new UntilLeaseExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((String key, Lease lease, RemovalCause cause) -> {
+                    // Only return permits of leases no longer in use
+                    if (key != null && lease != null && leases().getIfPresent(key) != lease) {
+                        returnUnused(key, lease);
+                    }
+                })
+                .build();
+        log.info("Rate limit leasing enabled: batches of {} permits for {}", batchSize, leaseDuration);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        if (System.nanoTime() - redisRetryAtNanos < 0) {
+            return fallbackLimiter.tryAcquire(key, fallbackLimit(limit), window);
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Lease lease = leases.getIfPresent(key);
+
+            if (lease == null || lease.isSpent()) {
+                try {
+                    lease = renewLease(key, limit, window);
+                } catch (RuntimeException e) {
+                    log.warn("Rate limit lease for {} failed, limiting locally: {}", key, e.getMessage());
+                    redisRetryAtNanos = System.nanoTime() + leaseDuration.toNanos();
+                    return fallbackLimiter.tryAcquire(key, fallbackLimit(limit), window);
+                }
+            }
+
+            if (lease.isRefusal()) {
+                return new RateLimitDecision(false, 0, lease.retryAfterMillis());
+            }
+
+            int left = lease.take();
+            if (left >= 0) {
+                return RateLimitDecision.allow(lease.remainingInRedis() + left);
+            }
+            // Another request took the last leased permit first; lease again
+        }
+        return new RateLimitDecision(false, 0, leaseDuration.toMillis());
+    }
+
+    // Lets the removal listener, built before the field is assigned, reach the cache
+    private Cache<String, Lease> leases() {
+        return leases;
+    }
+
+    /**
+     * Concurrent requests for one key wait for a single lease call. The wait uses a striped
+     * {@link ReentrantLock} rather than a map compute, so the Redis round trip never runs
+     * inside a {@code synchronized} block that would pin a virtual thread to its carrier.
+     */
+    private Lease renewLease(String key, int limit, Duration window) {
+        ReentrantLock lock = leaseLocks[Math.floorMod(key.hashCode(), leaseLocks.length)];
+        lock.lock();
+        try {
+            Lease current = leases.getIfPresent(key);
+            if (current != null && !current.isSpent()) {
+                return current;
+            }
+            Lease lease = newLease(key, limit, window);
+            leases.put(key, lease);
+            return lease;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lease newLease(String key, int limit, Duration window) {
+        RedisRateLimiter.Grant grant = redisRateLimiter.acquire(key, limit, window, Math.min(batchSize, limit));
+
+        if (grant.granted() == 0) {
+            long refusedFor = Math.min(grant.retryAfterMillis(), leaseDuration.toMillis());
+            return new Lease(grant, limit, window, Duration.ofMillis(Math.max(refusedFor, 1)));
+        }
+        return new Lease(grant, limit, window, leaseDuration);
+    }
+
+    private void returnUnused(String key, Lease lease) {
+        int unused = lease.close();
+        if (unused <= 0) {
+            return;
+        }
+        try {
+            redisRateLimiter.release(key, lease.limit, lease.window, lease.grant, unused);
+        } catch (RuntimeException e) {
+            // The permits come back on their own once the window moves on
+            log.debug("Could not return {} unused rate limit permits for {}: {}", unused, key, e.getMessage());
+        }
+    }
+
+    private int fallbackLimit(int limit) {
+        return Math.max(1, (int) Math.ceil(limit * fallbackFraction));
+    }
+
+    private static final class Lease {
+
+        private final RedisRateLimiter.Grant grant;
+        private final int limit;
+        private final Duration window;
+        private final long expiresAtNanos;
+        private final AtomicInteger permits;
+
+        private Lease(RedisRateLimiter.Grant grant, int limit, Duration window, Duration ttl) {
+            this.grant = grant;
+            this.limit = limit;
+            this.window = window;
+            this.expiresAtNanos = System.nanoTime() + ttl.toNanos();
+            this.permits = new AtomicInteger(grant.granted());
+        }
+
+        boolean isRefusal() {
+            return grant.granted() == 0 && !isExpired();
+        }
+
+        boolean isSpent() {
+            return isExpired() || (grant.granted() > 0 && permits.get() <= 0);
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+
+        /**
+         * Take one permit; returns the permits left after it, or -1 when none were left.
+         */
+        int take() {
+            while (true) {
+                int current = permits.get();
+                if (current <= 0 || isExpired()) {
+                    return -1;
+                }
+                if (permits.compareAndSet(current, current - 1)) {
+                    return current - 1;
+                }
+            }
+        }
+
+        /**
+         * Stop handing out permits; returns how many were never used.
+         */
+        int close() {
+            return Math.max(0, permits.getAndSet(0));
+        }
+
+        long remainingInRedis() {
+            return grant.remaining();
+        }
+
+        long retryAfterMillis() {
+            return Math.max(1, (expiresAtNanos - System.nanoTime()) / 1_000_000);
+        }
+
+        long ttlNanos() {
+            return Math.max(0, expiresAtNanos - System.nanoTime());
+        }
+    }
+
+    private static final class UntilLeaseExpiry implements Expiry<String, Lease> {
+
+        @Override
+        public long expireAfterCreate(String key, Lease lease, long currentTime) {
+            return lease.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Lease lease, long currentTime, long currentDuration) {
+            return lease.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Lease lease, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.order.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory GCRA limiter for a single node. Keeps some protection in place while Redis is
+ * unreachable instead of failing open.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    // Theoretical arrival time per key, in System.nanoTime() units
+    private final Cache<String, AtomicLong> arrivalTimes;
+
+    public LocalRateLimiter(long maxKeys, Duration idleExpiry) {
+        this.arrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        AtomicLong arrivalTime = arrivalTimes.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long windowNanos = window.toNanos();
+        long interval = windowNanos / limit;
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = arrivalTime.get();
+            long tat = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long newTat = tat + interval;
+            long allowAt = newTat - windowNanos;
+
+            if (allowAt - now > 0) {
+                return new RateLimitDecision(false, 0, TimeUnit.NANOSECONDS.toMillis(allowAt - now) + 1);
+            }
+            if (arrivalTime.compareAndSet(current, newTat)) {
+                return RateLimitDecision.allow((now - allowAt) / interval);
+            }
+        }
+    }
+}
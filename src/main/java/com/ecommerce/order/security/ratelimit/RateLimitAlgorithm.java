@@ -0,0 +1,26 @@
+package com.ecommerce.order.security.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Algorithms the Redis rate limiter can run, selected with {@code rate-limit.algorithm}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitAlgorithm {
+
+    /**
+     * Exact count of requests admitted in the trailing window; memory grows with the limit.
+     */
+    SLIDING_LOG("rate_limit:", "scripts/rate-limit-sliding-log.lua"),
+
+    /**
+     * Generic cell rate algorithm: bursts up to the limit, then a steady refill, in one key
+     * holding a single timestamp.
+     */
+    GCRA("rate_limit_gcra:", "scripts/rate-limit-gcra.lua");
+
+    private final String keyPrefix;
+    private final String scriptLocation;
+}
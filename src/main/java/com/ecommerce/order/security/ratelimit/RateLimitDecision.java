@@ -0,0 +1,15 @@
+package com.ecommerce.order.security.ratelimit;
+
+/**
+ * Outcome of one rate limit check.
+ *
+ * @param allowed          whether the request was admitted
+ * @param remaining        requests still admissible in the current window
+ * @param retryAfterMillis time until the next request would be admitted, 0 when allowed
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.order.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Limit that applies to a request, with the bucket its requests are counted in.
+ *
+ * @param name  policy name, shared by every route the policy matches
+ * @param limit requests allowed per window; 0 or less means unlimited
+ */
+public record RateLimitPolicy(String name, int limit, Duration window) {
+
+    public boolean isUnlimited() {
+        return limit <= 0;
+    }
+
+    public long windowMinutes() {
+        return window.toMinutes();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.order.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rate limit policies under {@code rate-limit.policies}. The first policy matching a
+ * request's route, method and roles applies; requests matching none use the default
+ * {@code rate-limit.requests-per-minute}.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitPolicyProperties {
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+
+        /**
+         * Bucket name; defaults to the pattern.
+         */
+        private String name;
+
+        /**
+         * Route template such as {@code /api/v1/orders/{orderId}}; {@code **} matches any rest of the path.
+         */
+        private String pattern = "/**";
+
+        /**
+         * HTTP methods the policy applies to; empty for all.
+         */
+        private Set<String> methods = new LinkedHashSet<>();
+
+        /**
+         * Roles (as in {@code User.roles}) the policy applies to; empty for everyone.
+         */
+        private Set<String> roles = new LinkedHashSet<>();
+
+        /**
+         * Requests allowed per window; 0 or less disables limiting. Defaults to the global limit.
+         */
+        private Integer requestsPerMinute;
+
+        /**
+         * Window length; defaults to the global window.
+         */
+        private Integer windowSizeMinutes;
+    }
+}
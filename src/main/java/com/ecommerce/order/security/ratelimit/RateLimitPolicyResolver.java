@@ -0,0 +1,107 @@
+package com.ecommerce.order.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the rate limit policy for a request. Route templates are parsed into
+ * {@link PathPattern}s once at startup, so matching a request is a walk over the
+ * precompiled patterns without any string parsing of the configuration.
+ */
+@Slf4j
+@Component
+public class RateLimitPolicyResolver {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final List<CompiledPolicy> policies;
+    private final RateLimitPolicy defaultPolicy;
+
+    public RateLimitPolicyResolver(RateLimitPolicyProperties properties,
+                                   @Value("${rate-limit.requests-per-minute:100}") int requestsPerMinute,
+                                   @Value("${rate-limit.window-size-minutes:1}") int windowSizeMinutes) {
+        this.defaultPolicy = new RateLimitPolicy("default", requestsPerMinute, Duration.ofMinutes(windowSizeMinutes));
+
+        PathPatternParser parser = new PathPatternParser();
+        this.policies = properties.getPolicies().stream()
+                .map(policy -> compile(parser, policy))
+                .toList();
+
+        log.info("Loaded {} rate limit policies", policies.size());
+    }
+
+    public RateLimitPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+
+    public RateLimitPolicy resolve(HttpServletRequest request, Authentication authentication) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(
+                contextPath != null && uri.startsWith(contextPath) ? uri.substring(contextPath.length()) : uri);
+        String method = request.getMethod();
+
+        for (CompiledPolicy policy : policies) {
+            if (policy.matches(path, method, authentication)) {
+                return policy.policy();
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private CompiledPolicy compile(PathPatternParser parser, RateLimitPolicyProperties.Policy policy) {
+        String name = policy.getName() != null ? policy.getName() : policy.getPattern();
+        int limit = policy.getRequestsPerMinute() != null ? policy.getRequestsPerMinute() : defaultPolicy.limit();
+        Duration window = policy.getWindowSizeMinutes() != null
+                ? Duration.ofMinutes(policy.getWindowSizeMinutes())
+                : defaultPolicy.window();
+
+        Set<String> methods = policy.getMethods().stream()
+                .map(m -> m.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> authorities = policy.getRoles().stream()
+                .map(role -> ROLE_PREFIX + role.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new CompiledPolicy(parser.parse(policy.getPattern()), methods, authorities,
+                new RateLimitPolicy(name, limit, window));
+    }
+
+    private record CompiledPolicy(PathPattern pattern, Set<String> methods, Set<String> authorities,
+                                  RateLimitPolicy policy) {
+
+        boolean matches(PathContainer path, String method, Authentication authentication) {
+            return (methods.isEmpty() || methods.contains(method))
+                    && hasRole(authentication)
+                    && pattern.matches(path);
+        }
+
+        private boolean hasRole(Authentication authentication) {
+            if (authorities.isEmpty()) {
+                return true;
+            }
+            if (authentication == null || !authentication.isAuthenticated()) {
+                return false;
+            }
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                if (authorities.contains(authority.getAuthority())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
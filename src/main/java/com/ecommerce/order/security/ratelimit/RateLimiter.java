@@ -0,0 +1,11 @@
+package com.ecommerce.order.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Admits requests against a limit of {@code limit} requests per {@code window} for a key.
+ */
+public interface RateLimiter {
+
+    RateLimitDecision tryAcquire(String key, int limit, Duration window);
+}
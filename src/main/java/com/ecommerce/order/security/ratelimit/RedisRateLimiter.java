@@ -0,0 +1,140 @@
+package com.ecommerce.order.security.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis rate limiter whose check-and-record runs as one Lua script, so each request costs a
+ * single round trip and concurrent requests cannot overshoot the limit. Scripts read the
+ * Redis server clock, keeping nodes with skewed clocks consistent.
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter implements RateLimiter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitAlgorithm algorithm;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> acquireScript;
+    private final RedisScript<Long> gcraReleaseScript;
+
+    // Sliding-log members must be unique per request; cheaper than a random UUID each time
+    private final String memberPrefix = UUID.randomUUID() + ":";
+    private final AtomicLong memberSequence = new AtomicLong();
+
+    public RedisRateLimiter(RedisTemplate<String, String> redisTemplate,
+                            @Value("${rate-limit.algorithm:SLIDING_LOG}") RateLimitAlgorithm algorithm) {
+        this.redisTemplate = redisTemplate;
+        this.algorithm = algorithm;
+        this.acquireScript = RedisScript.of(new ClassPathResource(algorithm.getScriptLocation()), List.class);
+        this.gcraReleaseScript = RedisScript.of(new ClassPathResource("scripts/rate-limit-gcra-release.lua"), Long.class);
+        log.info("Rate limiting with the {} algorithm", algorithm);
+    }
+
+    public RateLimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String key(String clientId, String endpoint) {
+        return algorithm.getKeyPrefix() + clientId + ":" + endpoint;
+    }
+
+    public String clientKeyPattern(String clientId) {
+        return algorithm.getKeyPrefix() + clientId + ":*";
+    }
+
+    /**
+     * Admit one request against {@code limit} requests per {@code window} if capacity remains.
+     */
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        Grant grant = acquire(key, limit, window, 1);
+        return new RateLimitDecision(grant.granted() > 0, grant.remaining(), grant.retryAfterMillis());
+    }
+
+    /**
+     * Take up to {@code permits} permits in one call; fewer are granted when the window does
+     * not have that many left.
+     */
+    public Grant acquire(String key, int limit, Duration window, int permits) {
+        String grantId = algorithm == RateLimitAlgorithm.SLIDING_LOG
+                ? memberPrefix + memberSequence.incrementAndGet()
+                : null;
+
+        List<?> result = algorithm == RateLimitAlgorithm.SLIDING_LOG
+                ? redisTemplate.execute(acquireScript, List.of(key),
+                        String.valueOf(limit), String.valueOf(window.toMillis()), grantId, String.valueOf(permits))
+                : redisTemplate.execute(acquireScript, List.of(key),
+                        String.valueOf(limit), String.valueOf(window.toMillis()), String.valueOf(permits));
+
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new Grant(grantId, (int) toLong(result.get(0)), toLong(result.get(1)), toLong(result.get(2)));
+    }
+
+    /**
+     * Give back {@code unused} permits of a grant so other nodes can spend them.
+     */
+    public void release(String key, int limit, Duration window, Grant grant, int unused) {
+        if (unused <= 0) {
+            return;
+        }
+
+        if (algorithm == RateLimitAlgorithm.SLIDING_LOG) {
+            Object[] members = new Object[unused];
+            for (int i = 0; i < unused; i++) {
+                members[i] = grant.grantId() + ":" + (grant.granted() - i);
+            }
+            redisTemplate.opsForZSet().remove(key, members);
+        } else {
+            redisTemplate.execute(gcraReleaseScript, List.of(key),
+                    String.valueOf(limit), String.valueOf(window.toMillis()), String.valueOf(unused));
+        }
+    }
+
+    /**
+     * Requests still admissible for the key, read without recording a request.
+     */
+    public long remaining(String key, int limit, Duration window) {
+        long now = Instant.now().toEpochMilli();
+
+        if (algorithm == RateLimitAlgorithm.SLIDING_LOG) {
+            Long count = redisTemplate.opsForZSet().count(key, now - window.toMillis(), now);
+            return Math.max(0, limit - (count != null ? count : 0));
+        }
+
+        String tat = redisTemplate.opsForValue().get(key);
+        if (tat == null) {
+            return limit;
+        }
+        double interval = (double) window.toMillis() / limit;
+        double used = Math.max(0, Double.parseDouble(tat) - now) / interval;
+        return Math.max(0, limit - (long) Math.ceil(used));
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * Permits handed out by one {@link #acquire} call.
+     *
+     * @param grantId          identifies the grant's sliding-log members; null for GCRA
+     * @param granted          permits granted, 0 when the request was refused
+     * @param remaining        permits still available in Redis after this grant
+     * @param retryAfterMillis time until a permit frees up, 0 when granted
+     */
+    public record Grant(String grantId, int granted, long remaining, long retryAfterMillis) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.model.enums.ExportFormat;
+import com.ecommerce.order.search.OrderSearchCriteria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface OrderExportService {
+    
+    /**
+     * Stream all orders matching the search criteria to the output stream, oldest first.
+     * Returns the number of exported orders.
+     */
+    long exportOrders(OrderSearchCriteria criteria, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,15 +1,19 @@
 package com.ecommerce.order.service;
 
+import com.ecommerce.order.model.dto.request.BatchCreateOrderRequest;
 import com.ecommerce.order.model.dto.request.CreateOrderRequest;
 import com.ecommerce.order.model.dto.request.UpdateOrderStatusRequest;
+import com.ecommerce.order.model.dto.response.BatchOrderResponse;
+import com.ecommerce.order.model.dto.response.CursorPageResponse;
 import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.ecommerce.order.model.dto.response.OrderStatisticsResponse;
 import com.ecommerce.order.model.entity.Order;
 import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.search.OrderSearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public interface OrderService {
@@ -19,6 +23,11 @@ public interface OrderService {
      */
     OrderResponse createOrder(CreateOrderRequest request, String userId);
     
+    /**
+     * Create many orders at once using JDBC batch inserts
+     */
+    BatchOrderResponse createOrders(BatchCreateOrderRequest request, String userId);
+    
     /**
      * Get order by ID
      */
@@ -44,6 +53,21 @@ public interface OrderService {
      */
     Page<OrderResponse> getOrdersByStatus(OrderStatus status, Pageable pageable);
     
+    /**
+     * Scroll all orders, newest first, using a continuation cursor
+     */
+    CursorPageResponse<OrderResponse> scrollAllOrders(String cursor, int size);
+    
+    /**
+     * Scroll a customer's orders, newest first, using a continuation cursor
+     */
+    CursorPageResponse<OrderResponse> scrollOrdersByCustomer(String customerId, String cursor, int size);
+    
+    /**
+     * Scroll orders with a status, newest first, using a continuation cursor
+     */
+    CursorPageResponse<OrderResponse> scrollOrdersByStatus(OrderStatus status, String cursor, int size);
+    
     /**
      * Update order status
      */
@@ -55,25 +79,22 @@ public interface OrderService {
     OrderResponse cancelOrder(UUID orderId, String reason, String cancelledBy);
     
     /**
-     * Search orders with multiple criteria
+     * Search orders with multiple criteria, sorted on indexed fields only
      */
-    Page<OrderResponse> searchOrders(String customerId, OrderStatus status, 
-                                     String startDate, String endDate, 
-                                     Double minAmount, Double maxAmount, 
-                                     Pageable pageable);
+    Page<OrderResponse> searchOrders(OrderSearchCriteria criteria, Pageable pageable);
     
     /**
-     * Process pending orders (for scheduled job)
+     * Search orders with multiple criteria using a continuation cursor
      */
-    void processPendingOrders();
+    CursorPageResponse<OrderResponse> scrollSearchOrders(OrderSearchCriteria criteria, String cursor, int size);
     
     /**
-     * Get order statistics for a customer
+     * Process pending orders (for scheduled job)
      */
-    Map<String, Object> getOrderStatistics(String customerId);
+    void processPendingOrders();
     
     /**
-     * Delete old cancelled orders (for cleanup job)
+     * Get order statistics for a customer
      */
-    int deleteOldCancelledOrders(int daysOld);
+    OrderStatisticsResponse getOrderStatistics(String customerId);
 }
\ No newline at end of file
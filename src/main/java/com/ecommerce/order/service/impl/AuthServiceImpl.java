@@ -8,8 +8,10 @@ import com.ecommerce.order.model.dto.response.JwtResponse;
 import com.ecommerce.order.model.dto.response.MessageResponse;
 import com.ecommerce.order.model.entity.User;
 import com.ecommerce.order.repository.UserRepository;
+import com.ecommerce.order.security.AuthenticatedPrincipalCache;
 import com.ecommerce.order.security.JwtTokenProvider;
 import com.ecommerce.order.service.AuthService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -40,6 +42,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final RedisTemplate<String, String> redisTemplate;
+    private final AuthenticatedPrincipalCache principalCache;
 
     @Override
     @Transactional
@@ -143,6 +146,10 @@ public class AuthServiceImpl implements AuthService {
                 User user = userOpt.get();
                 user.recordFailedLogin();
                 userRepository.save(user);
+                
+                if (!user.isAccountNonLocked()) {
+                    principalCache.evict(user.getUsername());
+                }
             }
             
             log.error("Login failed for user: {}", request.getUsername());
@@ -154,11 +161,12 @@ public class AuthServiceImpl implements AuthService {
     public JwtResponse refreshToken(String refreshToken) {
         log.info("Refreshing access token");
         
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        Claims claims = jwtTokenProvider.resolveClaims(refreshToken);
+        if (claims == null) {
             throw new InvalidCredentialsException("Invalid refresh token");
         }
         
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
+        String username = claims.getSubject();
         
         // Verify refresh token exists in Redis
         String storedToken = redisTemplate.opsForValue().get("refresh_token:" + username);
@@ -196,6 +204,7 @@ public class AuthServiceImpl implements AuthService {
         
         // Remove refresh token from Redis
         redisTemplate.delete("refresh_token:" + username);
+        principalCache.evict(username);
         
         // Clear security context
         SecurityContextHolder.clearContext();
@@ -264,6 +273,7 @@ public class AuthServiceImpl implements AuthService {
         // Invalidate all existing sessions
         redisTemplate.delete("refresh_token:" + user.getUsername());
         clearUserSession(user.getUsername());
+        principalCache.evict(user.getUsername());
         
         log.info("Password reset successfully for user: {}", user.getUsername());
         
@@ -289,6 +299,7 @@ public class AuthServiceImpl implements AuthService {
         // Invalidate all existing sessions
         redisTemplate.delete("refresh_token:" + username);
         clearUserSession(username);
+        principalCache.evict(username);
         
         log.info("Password changed successfully for user: {}", username);
         
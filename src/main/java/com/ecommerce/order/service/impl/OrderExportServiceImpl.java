@@ -0,0 +1,70 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.export.CsvOrderExportWriter;
+import com.ecommerce.order.export.NdjsonOrderExportWriter;
+import com.ecommerce.order.export.OrderExportWriter;
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.ExportFormat;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.search.OrderSearchCriteria;
+import com.ecommerce.order.service.OrderExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.flush-interval:1000}")
+    private int flushInterval;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(OrderSearchCriteria criteria, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting orders as {} with criteria: {}", format, criteria);
+        
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamSearchOrders(criteria);
+             OrderExportWriter writer = createWriter(format, out)) {
+            
+            writer.writeHeader();
+            
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                writer.writeRow(order);
+                // Keep the persistence context from accumulating every streamed row
+                entityManager.detach(order);
+                
+                if (++count % flushInterval == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        
+        log.info("Exported {} orders as {}", count, format);
+        return count;
+    }
+    
+    private OrderExportWriter createWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonOrderExportWriter(objectMapper, out);
+            case CSV -> new CsvOrderExportWriter(out);
+        };
+    }
+}
@@ -1,29 +1,49 @@
 package com.ecommerce.order.service.impl;
 
+import com.ecommerce.order.archive.OrderArchive;
+import com.ecommerce.order.cache.OrderCacheInvalidator;
+import com.ecommerce.order.event.OrderEventPublisher;
 import com.ecommerce.order.exception.OrderNotFoundException;
 import com.ecommerce.order.exception.InvalidOrderStateException;
 import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.model.dto.request.BatchCreateOrderRequest;
 import com.ecommerce.order.model.dto.request.CreateOrderRequest;
 import com.ecommerce.order.model.dto.request.UpdateOrderStatusRequest;
+import com.ecommerce.order.model.dto.response.BatchOrderResponse;
+import com.ecommerce.order.model.dto.response.CursorPageResponse;
 import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.ecommerce.order.model.dto.response.OrderStatisticsResponse;
 import com.ecommerce.order.model.entity.Order;
 import com.ecommerce.order.model.entity.OrderItem;
 import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import com.ecommerce.order.pagination.OrderCursor;
+import com.ecommerce.order.repository.CustomerOrderStatsRepository;
 import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.repository.OrderStatusAggregate;
+import com.ecommerce.order.search.OrderSearchCriteria;
+import com.ecommerce.order.search.OrderSpecifications;
 import com.ecommerce.order.service.OrderService;
+import com.ecommerce.order.statistics.CustomerOrderStatsRollup;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -32,83 +52,110 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "order.service", description = "Order service calls, tagged by method")
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final OrderEventPublisher eventPublisher;
+    private final CustomerOrderStatsRepository statsRepository;
+    private final CustomerOrderStatsRollup statsRollup;
+    private final OrderCacheInvalidator cacheInvalidator;
+    private final EntityManager entityManager;
+    private final HotPathMetrics metrics;
+    private final OrderArchive orderArchive;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}")
+    private int jdbcBatchSize;
+
+    @Value("${app.pagination.max-page-size:100}")
+    private int maxPageSize;
     
     @Override
     @Transactional
-    @CacheEvict(value = {"orders", "order-statistics"}, allEntries = true)
     @CircuitBreaker(name = "order-service", fallbackMethod = "createOrderFallback")
     public OrderResponse createOrder(CreateOrderRequest request, String userId) {
         log.info("Creating new order for customer: {}", request.getCustomerId());
         
-        // Create order entity
-        Order order = Order.builder()
-                .customerId(request.getCustomerId())
-                .customerEmail(request.getCustomerEmail())
-                .customerName(request.getCustomerName())
-                .status(OrderStatus.PENDING)
-                .currency(request.getCurrency())
-                .shippingAddress(request.getShippingAddress())
-                .billingAddress(request.getBillingAddress())
-                .paymentMethod(request.getPaymentMethod())
-                .notes(request.getNotes())
-                .build();
-        
-        // Add order items
-        List<OrderItem> orderItems = request.getItems().stream()
-                .map(itemRequest -> {
-                    OrderItem item = OrderItem.builder()
-                            .productId(itemRequest.getProductId())
-                            .productName(itemRequest.getProductName())
-                            .productDescription(itemRequest.getProductDescription())
-                            .productSku(itemRequest.getProductSku())
-                            .quantity(itemRequest.getQuantity())
-                            .unitPrice(itemRequest.getUnitPrice())
-                            .discountAmount(itemRequest.getDiscountAmount())
-                            .taxAmount(itemRequest.getTaxAmount())
-                            .notes(itemRequest.getNotes())
-                            .build();
-                    item.calculateSubtotal();
-                    item.setOrder(order);
-                    return item;
-                })
-                .collect(Collectors.toList());
-        
-        order.setItems(orderItems);
-        order.recalculateTotal();
+        Order order = buildOrder(request);
         
         // Save order
         Order savedOrder = orderRepository.save(order);
         
-        log.info("Order created successfully with ID: {}", savedOrder.getOrderId());
+        eventPublisher.publishOrderCreated(savedOrder, userId);
+        statsRollup.orderCreated(savedOrder);
+        cacheInvalidator.orderCreated(savedOrder);
         
-        // TODO: Publish order created event
-        // eventPublisher.publishOrderCreatedEvent(savedOrder);
+        log.info("Order created successfully with ID: {}", savedOrder.getOrderId());
         
         return orderMapper.toOrderResponse(savedOrder);
     }
     
     @Override
-    @Cacheable(value = "orders", key = "#orderId")
+    @Transactional
+    public BatchOrderResponse createOrders(BatchCreateOrderRequest request, String userId) {
+        List<CreateOrderRequest> requests = request.getOrders();
+        log.info("Creating batch of {} orders for user: {}", requests.size(), userId);
+        
+        List<UUID> orderIds = new ArrayList<>(requests.size());
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        CustomerOrderStatsRollup.Changes statsChanges = new CustomerOrderStatsRollup.Changes();
+        OrderCacheInvalidator.Invalidation invalidation = new OrderCacheInvalidator.Invalidation()
+                .status(OrderStatus.PENDING);
+        
+        // Persist in chunks matching the JDBC batch size, flushing and clearing the
+        // persistence context after each chunk so Hibernate sends one multi-row batch
+        // per table and the session does not grow with the size of the request
+        for (int i = 0; i < requests.size(); i++) {
+            Order order = buildOrder(requests.get(i));
+            entityManager.persist(order);
+            eventPublisher.publishOrderCreated(order, userId);
+            statsChanges.created(order);
+            invalidation.customer(order.getCustomerId());
+            orderIds.add(order.getOrderId());
+            totalAmount = totalAmount.add(order.getTotalAmount());
+            
+            if ((i + 1) % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        statsRollup.apply(statsChanges);
+        cacheInvalidator.invalidate(invalidation);
+        
+        log.info("Batch of {} orders created successfully", orderIds.size());
+        
+        return BatchOrderResponse.builder()
+                .createdCount(orderIds.size())
+                .orderIds(orderIds)
+                .totalAmount(totalAmount)
+                .build();
+    }
+    
+    // sync: concurrent misses for the same order wait for a single load instead of each querying
+    @Override
+    @Cacheable(value = "orders", key = "#orderId", sync = true)
     @Retry(name = "order-service")
     public OrderResponse getOrderById(UUID orderId) {
         log.debug("Fetching order with ID: {}", orderId);
         
-        Order order = orderRepository.findByIdWithItems(orderId)
+        // Hot orders first; terminal orders past the archive age are read from order_archive
+        return orderRepository.findByIdWithItems(orderId)
+                .map(orderMapper::toOrderResponse)
+                .or(() -> orderArchive.findOrder(orderId))
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
-        
-        return orderMapper.toOrderResponse(order);
     }
     
     @Override
-    @Cacheable(value = "orders", key = "#orderId + '-' + #customerId")
+    @Cacheable(value = "orders", key = "T(com.ecommerce.order.cache.OrderCacheKeys).orderForCustomer(#orderId, #customerId)", sync = true)
     public OrderResponse getOrderByIdForCustomer(UUID orderId, String customerId) {
         log.debug("Fetching order {} for customer {}", orderId, customerId);
         
-        if (!orderRepository.existsByOrderIdAndCustomerId(orderId, customerId)) {
+        if (!orderRepository.existsByOrderIdAndCustomerId(orderId, customerId)
+                && !orderArchive.containsOrder(orderId, customerId)) {
             throw new OrderNotFoundException("Order not found for customer");
         }
         
@@ -116,7 +163,7 @@ public class OrderServiceImpl implements OrderService {
     }
     
     @Override
-    @Cacheable(value = "order-search", key = "'all-' + #pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "order-search", key = "T(com.ecommerce.order.cache.OrderCacheKeys).allOrders(#pageable)", sync = true)
     public Page<OrderResponse> getAllOrders(Pageable pageable) {
         log.debug("Fetching all orders with pagination: {}", pageable);
         
@@ -125,16 +172,16 @@ public class OrderServiceImpl implements OrderService {
     }
     
     @Override
-    @Cacheable(value = "order-search", key = "'customer-' + #customerId + '-' + #pageable.pageNumber")
+    @Cacheable(value = "order-search", key = "T(com.ecommerce.order.cache.OrderCacheKeys).customerOrders(#customerId, #pageable)", sync = true)
     public Page<OrderResponse> getOrdersByCustomer(String customerId, Pageable pageable) {
         log.debug("Fetching orders for customer: {}", customerId);
         
-        Page<Order> orders = orderRepository.findByCustomerId(customerId, pageable);
-        return orders.map(orderMapper::toOrderResponse);
+        // The customer's full history, hot and archived, newest first
+        return orderArchive.customerHistory(customerId, pageable);
     }
     
     @Override
-    @Cacheable(value = "order-search", key = "'status-' + #status + '-' + #pageable.pageNumber")
+    @Cacheable(value = "order-search", key = "T(com.ecommerce.order.cache.OrderCacheKeys).statusOrders(#status, #pageable)", sync = true)
     public Page<OrderResponse> getOrdersByStatus(OrderStatus status, Pageable pageable) {
         log.debug("Fetching orders with status: {}", status);
         
@@ -142,10 +189,50 @@ public class OrderServiceImpl implements OrderService {
         return orders.map(orderMapper::toOrderResponse);
     }
     
+    @Override
+    public CursorPageResponse<OrderResponse> scrollAllOrders(String cursor, int size) {
+        log.debug("Scrolling all orders after cursor: {}", cursor);
+        
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = boundedPageSize(size);
+        
+        List<Order> orders = orderRepository.findPageAfter(
+            after.getCreatedAt(), after.getOrderId(), PageRequest.ofSize(pageSize + 1));
+        return toCursorPage(orders, pageSize);
+    }
+    
+    @Override
+    public CursorPageResponse<OrderResponse> scrollOrdersByCustomer(String customerId, String cursor, int size) {
+        log.debug("Scrolling orders for customer: {}", customerId);
+        
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = boundedPageSize(size);
+        
+        List<OrderResponse> orders = orderArchive.customerHistoryAfter(customerId, after, pageSize + 1);
+        if (orders.size() <= pageSize) {
+            return toCursorPage(orders, (OrderCursor) null);
+        }
+        
+        List<OrderResponse> pageOrders = orders.subList(0, pageSize);
+        OrderResponse last = pageOrders.get(pageSize - 1);
+        return toCursorPage(pageOrders, OrderCursor.of(last.getCreatedAt(), last.getOrderId()));
+    }
+    
+    @Override
+    public CursorPageResponse<OrderResponse> scrollOrdersByStatus(OrderStatus status, String cursor, int size) {
+        log.debug("Scrolling orders with status: {}", status);
+        
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = boundedPageSize(size);
+        
+        List<Order> orders = orderRepository.findPageByStatusAfter(
+            status, after.getCreatedAt(), after.getOrderId(), PageRequest.ofSize(pageSize + 1));
+        return toCursorPage(orders, pageSize);
+    }
+    
     @Override
     @Transactional
     @CachePut(value = "orders", key = "#orderId")
-    @CacheEvict(value = {"order-search", "order-statistics"}, allEntries = true)
     public OrderResponse updateOrderStatus(UUID orderId, UpdateOrderStatusRequest request) {
         log.info("Updating order {} status to {}", orderId, request.getStatus());
         
@@ -153,6 +240,7 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
         
         OrderStatus newStatus = OrderStatus.fromString(request.getStatus());
+        OrderStatus previousStatus = order.getStatus();
         
         if (!order.getStatus().canTransitionTo(newStatus)) {
             throw new InvalidOrderStateException(
@@ -167,19 +255,18 @@ public class OrderServiceImpl implements OrderService {
         }
         
         Order updatedOrder = orderRepository.save(order);
+        eventPublisher.publishOrderStatusChanged(updatedOrder, previousStatus);
+        statsRollup.statusChanged(updatedOrder, previousStatus, newStatus);
+        cacheInvalidator.orderUpdated(updatedOrder, previousStatus);
         
         log.info("Order {} status updated to {}", orderId, newStatus);
         
-        // TODO: Publish status change event
-        // eventPublisher.publishOrderStatusChangedEvent(updatedOrder);
-        
         return orderMapper.toOrderResponse(updatedOrder);
     }
     
     @Override
     @Transactional
     @CachePut(value = "orders", key = "#orderId")
-    @CacheEvict(value = {"order-search", "order-statistics"}, allEntries = true)
     public OrderResponse cancelOrder(UUID orderId, String reason, String cancelledBy) {
         log.info("Cancelling order {} by {}", orderId, cancelledBy);
         
@@ -192,42 +279,49 @@ public class OrderServiceImpl implements OrderService {
             );
         }
         
+        OrderStatus previousStatus = order.getStatus();
         order.cancel(reason, cancelledBy);
         Order cancelledOrder = orderRepository.save(order);
+        eventPublisher.publishOrderCancelled(cancelledOrder, previousStatus);
+        statsRollup.statusChanged(cancelledOrder, previousStatus, OrderStatus.CANCELLED);
+        cacheInvalidator.orderUpdated(cancelledOrder, previousStatus);
         
         log.info("Order {} cancelled successfully", orderId);
         
-        // TODO: Publish order cancelled event
-        // eventPublisher.publishOrderCancelledEvent(cancelledOrder);
-        
         return orderMapper.toOrderResponse(cancelledOrder);
     }
     
     @Override
-    public Page<OrderResponse> searchOrders(String customerId, OrderStatus status, 
-                                           String startDate, String endDate, 
-                                           Double minAmount, Double maxAmount, 
-                                           Pageable pageable) {
-        log.debug("Searching orders with criteria - customerId: {}, status: {}", customerId, status);
-        
-        LocalDateTime startDateTime = startDate != null ? 
-            LocalDateTime.parse(startDate + "T00:00:00") : null;
-        LocalDateTime endDateTime = endDate != null ? 
-            LocalDateTime.parse(endDate + "T23:59:59") : null;
-        BigDecimal minBigDecimal = minAmount != null ? BigDecimal.valueOf(minAmount) : null;
-        BigDecimal maxBigDecimal = maxAmount != null ? BigDecimal.valueOf(maxAmount) : null;
-        
-        Page<Order> orders = orderRepository.searchOrders(
-            customerId, status, startDateTime, endDateTime, 
-            minBigDecimal, maxBigDecimal, pageable
-        );
+    public Page<OrderResponse> searchOrders(OrderSearchCriteria criteria, Pageable pageable) {
+        log.debug("Searching orders with criteria: {}", criteria);
+        
+        Pageable indexedPageable = PageRequest.of(
+            pageable.getPageNumber(), pageable.getPageSize(), OrderSpecifications.indexedSort(pageable.getSort()));
+        
+        Page<Order> orders = orderRepository.findAll(OrderSpecifications.matching(criteria), indexedPageable);
         
         return orders.map(orderMapper::toOrderResponse);
     }
     
+    @Override
+    public CursorPageResponse<OrderResponse> scrollSearchOrders(OrderSearchCriteria criteria, String cursor, int size) {
+        log.debug("Scrolling order search with criteria: {}", criteria);
+        
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = boundedPageSize(size);
+        
+        Specification<Order> specification = OrderSpecifications.matching(criteria)
+            .and(OrderSpecifications.after(after.getCreatedAt(), after.getOrderId()));
+        List<Order> orders = orderRepository.findBy(specification, query -> query
+            .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "orderId"))
+            .limit(pageSize + 1)
+            .all());
+        
+        return toCursorPage(orders, pageSize);
+    }
+    
     @Override
     @Transactional
-    @CacheEvict(value = {"orders", "order-search", "order-statistics"}, allEntries = true)
     public void processPendingOrders() {
         log.info("Starting batch processing of pending orders");
         
@@ -247,56 +341,146 @@ public class OrderServiceImpl implements OrderService {
             orderIds, OrderStatus.PROCESSING, LocalDateTime.now()
         );
         
+        OrderCacheInvalidator.Invalidation invalidation = new OrderCacheInvalidator.Invalidation()
+                .status(OrderStatus.PENDING)
+                .status(OrderStatus.PROCESSING);
+        
+        // The bulk update bypasses the loaded entities, so the new status is passed explicitly
+        for (Order order : pendingOrders) {
+            eventPublisher.publishOrderStatusChanged(order, OrderStatus.PENDING, OrderStatus.PROCESSING);
+            invalidation.order(order.getOrderId(), order.getCustomerId())
+                    .customer(order.getCustomerId());
+        }
+        statsRollup.statusChanged(pendingOrders, OrderStatus.PENDING, OrderStatus.PROCESSING);
+        cacheInvalidator.invalidate(invalidation);
+        
         log.info("Updated {} pending orders to PROCESSING status", updatedCount);
         
         // TODO: Send notifications for processed orders
     }
     
     @Override
-    @Cacheable(value = "order-statistics", key = "#customerId")
-    public Map<String, Object> getOrderStatistics(String customerId) {
+    @Cacheable(value = "order-statistics", key = "#customerId", sync = true)
+    public OrderStatisticsResponse getOrderStatistics(String customerId) {
         log.debug("Fetching order statistics for customer: {}", customerId);
         
-        Map<String, Object> statistics = new HashMap<>();
+        // Served from the rollup, so the cost does not grow with the customer's order history
+        List<OrderStatusAggregate> aggregates = statsRepository.findStatusAggregates(customerId);
         
-        // Get basic counts
-        long totalOrders = orderRepository.countByCustomerId(customerId);
-        statistics.put("totalOrders", totalOrders);
+        return toStatisticsResponse(customerId, aggregates);
+    }
+    
+    private Order buildOrder(CreateOrderRequest request) {
+        // Create order entity
+        Order order = Order.builder()
+                .customerId(request.getCustomerId())
+                .customerEmail(request.getCustomerEmail())
+                .customerName(request.getCustomerName())
+                .status(OrderStatus.PENDING)
+                .currency(request.getCurrency())
+                .shippingAddress(request.getShippingAddress())
+                .billingAddress(request.getBillingAddress())
+                .paymentMethod(request.getPaymentMethod())
+                .notes(request.getNotes())
+                .build();
         
-        // Get order counts by status
-        for (OrderStatus status : OrderStatus.values()) {
-            long count = orderRepository.findByCustomerIdAndStatus(customerId, status, 
-                Pageable.unpaged()).getTotalElements();
-            statistics.put(status.name().toLowerCase() + "Orders", count);
-        }
+        // Add order items
+        List<OrderItem> orderItems = request.getItems().stream()
+                .map(itemRequest -> {
+                    OrderItem item = OrderItem.builder()
+                            .productId(itemRequest.getProductId())
+                            .productName(itemRequest.getProductName())
+                            .productDescription(itemRequest.getProductDescription())
+                            .productSku(itemRequest.getProductSku())
+                            .quantity(itemRequest.getQuantity())
+                            .unitPrice(itemRequest.getUnitPrice())
+                            .discountAmount(itemRequest.getDiscountAmount())
+                            .taxAmount(itemRequest.getTaxAmount())
+                            .notes(itemRequest.getNotes())
+                            .build();
+                    item.calculateSubtotal();
+                    item.setOrder(order);
+                    return item;
+                })
+                .collect(Collectors.toList());
         
-        // Get aggregated statistics
-        List<Object[]> aggregatedStats = orderRepository.getOrderStatisticsByCustomer(customerId);
-        if (!aggregatedStats.isEmpty()) {
-            Object[] stats = aggregatedStats.get(0);
-            statistics.put("totalAmount", stats[2]);
-            statistics.put("averageAmount", stats[3]);
-        }
+        order.setItems(orderItems);
+        order.recalculateTotal();
         
-        return statistics;
+        return order;
     }
     
-    @Override
-    @Transactional
-    @CacheEvict(value = {"orders", "order-search", "order-statistics"}, allEntries = true)
-    public int deleteOldCancelledOrders(int daysOld) {
-        log.info("Deleting cancelled orders older than {} days", daysOld);
-        
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        int deletedCount = orderRepository.deleteOldCancelledOrders(cutoffDate);
+    private OrderStatisticsResponse toStatisticsResponse(String customerId, List<OrderStatusAggregate> aggregates) {
+        Map<OrderStatus, OrderStatisticsResponse.StatusStatistics> byStatus = new EnumMap<>(OrderStatus.class);
+        long totalOrders = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        
+        for (OrderStatusAggregate aggregate : aggregates) {
+            byStatus.put(aggregate.getStatus(), OrderStatisticsResponse.StatusStatistics.builder()
+                    .count(aggregate.getOrderCount())
+                    .totalAmount(aggregate.getTotalAmount())
+                    .averageAmount(average(aggregate.getTotalAmount(), aggregate.getOrderCount()))
+                    .build());
+            totalOrders += aggregate.getOrderCount();
+            totalAmount = totalAmount.add(aggregate.getTotalAmount());
+        }
         
-        log.info("Deleted {} old cancelled orders", deletedCount);
-        return deletedCount;
+        return OrderStatisticsResponse.builder()
+                .customerId(customerId)
+                .totalOrders(totalOrders)
+                .pendingOrders(countFor(byStatus, OrderStatus.PENDING))
+                .processingOrders(countFor(byStatus, OrderStatus.PROCESSING))
+                .shippedOrders(countFor(byStatus, OrderStatus.SHIPPED))
+                .deliveredOrders(countFor(byStatus, OrderStatus.DELIVERED))
+                .cancelledOrders(countFor(byStatus, OrderStatus.CANCELLED))
+                .totalAmount(totalAmount)
+                .averageAmount(average(totalAmount, totalOrders))
+                // Plain LinkedHashMap, in status order, so the value deserializes from the shared Redis tier
+                .byStatus(new LinkedHashMap<>(byStatus))
+                .build();
+    }
+    
+    private static long countFor(Map<OrderStatus, OrderStatisticsResponse.StatusStatistics> byStatus, 
+                                 OrderStatus status) {
+        OrderStatisticsResponse.StatusStatistics statistics = byStatus.get(status);
+        return statistics != null ? statistics.getCount() : 0;
+    }
+    
+    private static BigDecimal average(BigDecimal total, long count) {
+        return count > 0 
+                ? total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) 
+                : BigDecimal.ZERO;
+    }
+    
+    private int boundedPageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+    
+    // Rows are fetched with one extra element to learn whether another page exists without a count query
+    private CursorPageResponse<OrderResponse> toCursorPage(List<Order> orders, int pageSize) {
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> pageOrders = hasNext ? orders.subList(0, pageSize) : orders;
+        
+        return toCursorPage(pageOrders.stream()
+                        .map(orderMapper::toOrderResponse)
+                        .collect(Collectors.toList()),
+                hasNext ? OrderCursor.after(pageOrders.get(pageOrders.size() - 1)) : null);
+    }
+    
+    // A null cursor marks the last page
+    private CursorPageResponse<OrderResponse> toCursorPage(List<OrderResponse> pageOrders, OrderCursor next) {
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(pageOrders)
+                .size(pageOrders.size())
+                .hasNext(next != null)
+                .nextCursor(next != null ? next.encode() : null)
+                .build();
     }
     
     // Fallback methods for Circuit Breaker
     public OrderResponse createOrderFallback(CreateOrderRequest request, String userId, Exception ex) {
         log.error("Fallback triggered for createOrder due to: {}", ex.getMessage());
+        metrics.recordFallback("order-service", "createOrder", ex);
         
         // Return a basic response indicating the service is temporarily unavailable
         return OrderResponse.builder()
@@ -0,0 +1,123 @@
+package com.ecommerce.order.statistics;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.repository.CustomerOrderStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the {@code customer_order_stats} rollup in step with order writes. Deltas must be
+ * applied inside the transaction that changes the orders so both commit (or roll back)
+ * together; {@link #reconcile()} repairs any rows that drift anyway.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CustomerOrderStatsRollup {
+
+    private final CustomerOrderStatsRepository statsRepository;
+
+    public void orderCreated(Order order) {
+        apply(new Changes().created(order));
+    }
+
+    public void statusChanged(Order order, OrderStatus previousStatus, OrderStatus newStatus) {
+        apply(new Changes().statusChanged(order, previousStatus, newStatus));
+    }
+
+    public void statusChanged(Collection<Order> orders, OrderStatus previousStatus, OrderStatus newStatus) {
+        Changes changes = new Changes();
+        orders.forEach(order -> changes.statusChanged(order, previousStatus, newStatus));
+        apply(changes);
+    }
+
+    public void apply(Changes changes) {
+        changes.deltas.forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                statsRepository.applyDelta(key.customerId(), key.status().name(), delta.count, delta.amount);
+            }
+        });
+    }
+
+    /**
+     * Recompute a customer's rollup rows from {@code orders}.
+     */
+    @Transactional
+    public void rebuildCustomer(String customerId) {
+        statsRepository.deleteByCustomerId(customerId);
+        statsRepository.insertFromOrders(customerId);
+    }
+
+    /**
+     * Find customers whose rollup no longer matches their orders and rebuild only those.
+     * Returns the number of customers repaired.
+     */
+    @Transactional
+    public int reconcile() {
+        List<String> drifted = statsRepository.findDriftedCustomerIds();
+
+        if (!drifted.isEmpty()) {
+            log.warn("Order statistics rollup drifted for {} customers, rebuilding", drifted.size());
+            drifted.forEach(this::rebuildCustomer);
+        }
+
+        return drifted.size();
+    }
+
+    /**
+     * Net deltas accumulated per customer and status, so a bulk write issues one upsert per
+     * affected row. Rows are applied in key order to keep lock acquisition order consistent
+     * across concurrent transactions.
+     */
+    public static class Changes {
+
+        private static final Comparator<Key> KEY_ORDER = Comparator
+                .comparing(Key::customerId)
+                .thenComparing(Key::status);
+
+        private final Map<Key, Delta> deltas = new TreeMap<>(KEY_ORDER);
+
+        public Changes created(Order order) {
+            return add(order.getCustomerId(), order.getStatus(), 1, order.getTotalAmount());
+        }
+
+        public Changes statusChanged(Order order, OrderStatus previousStatus, OrderStatus newStatus) {
+            if (previousStatus == newStatus) {
+                return this;
+            }
+            add(order.getCustomerId(), previousStatus, -1, order.getTotalAmount().negate());
+            return add(order.getCustomerId(), newStatus, 1, order.getTotalAmount());
+        }
+
+        public Changes add(String customerId, OrderStatus status, long count, BigDecimal amount) {
+            Delta delta = deltas.computeIfAbsent(new Key(customerId, status), key -> new Delta());
+            delta.count += count;
+            delta.amount = delta.amount.add(amount);
+            return this;
+        }
+
+        private record Key(String customerId, OrderStatus status) {
+        }
+
+        private static class Delta {
+            private long count;
+            private BigDecimal amount = BigDecimal.ZERO;
+
+            private boolean isZero() {
+                return count == 0 && amount.signum() == 0;
+            }
+        }
+    }
+}
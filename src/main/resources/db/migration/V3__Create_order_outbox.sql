@@ -0,0 +1,21 @@
+-- V3__Create_order_outbox.sql
+-- Transactional outbox for order lifecycle events
+
+-- Pooled sequence so outbox inserts can be JDBC-batched alongside orders
+CREATE SEQUENCE order_outbox_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE order_outbox_events (
+    event_id BIGINT PRIMARY KEY DEFAULT nextval('order_outbox_event_seq'),
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    -- Stamped by the database so every node shares one clock for relay ordering
+    created_at TIMESTAMP NOT NULL DEFAULT clock_timestamp(),
+    published_at TIMESTAMP
+);
+
+-- Relay drains unpublished events in creation order
+CREATE INDEX idx_outbox_unpublished ON order_outbox_events(created_at, event_id) WHERE published_at IS NULL;
+
+-- Cleanup job removes published events past retention
+CREATE INDEX idx_outbox_published_at ON order_outbox_events(published_at) WHERE published_at IS NOT NULL;
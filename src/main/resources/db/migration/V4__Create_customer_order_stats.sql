@@ -0,0 +1,17 @@
+-- V4__Create_customer_order_stats.sql
+-- Per-customer, per-status rollup of order counts and amounts, maintained with delta writes
+
+CREATE TABLE customer_order_stats (
+    customer_id VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (customer_id, status)
+);
+
+-- Backfill from existing orders
+INSERT INTO customer_order_stats (customer_id, status, order_count, total_amount)
+SELECT customer_id, status, COUNT(*), SUM(total_amount)
+FROM orders
+GROUP BY customer_id, status;
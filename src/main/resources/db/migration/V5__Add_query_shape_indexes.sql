@@ -0,0 +1,17 @@
+-- V5__Add_query_shape_indexes.sql
+-- Composite and partial indexes matching the OrderRepository query shapes. Built CONCURRENTLY so
+-- order writes are not blocked; that cannot run in a transaction (see the .conf next to this file)
+
+-- Customer order history and its keyset pages: customer_id = ? ORDER BY created_at DESC, order_id DESC,
+-- read backwards so no sort step is needed
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_customer_created ON orders(customer_id, created_at, order_id);
+
+-- Status update job and stale pending lookups: PENDING orders by age
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_pending_created ON orders(created_at) WHERE status = 'PENDING';
+
+-- Cancelled order cleanup and its per-customer aggregate
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_cancelled_at ON orders(cancelled_at) WHERE status = 'CANCELLED';
+
+-- Covered by the leading columns of idx_order_customer_created and idx_order_status_created
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_customer_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_status;
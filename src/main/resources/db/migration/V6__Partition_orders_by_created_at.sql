@@ -0,0 +1,73 @@
+-- V6__Partition_orders_by_created_at.sql
+-- Monthly range partitions for orders on created_at. order_items is partitioned the same way on a
+-- copy of its order's created_at, so an order and its items always live in the same month and the
+-- foreign key can include the partition key. Existing rows are copied in this migration; on large
+-- tables run it in a maintenance window (see DEPLOYMENT.md)
+
+-- Creates the orders and order_items partitions for the month containing the given date.
+-- Called here for existing data and by OrderPartitionManager to stay ahead of time
+CREATE OR REPLACE FUNCTION create_order_partition(month DATE) RETURNS VOID AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month::timestamp)::date;
+    end_date DATE := (date_trunc('month', month::timestamp) + INTERVAL '1 month')::date;
+    suffix TEXT := to_char(start_date, 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                   'orders_p' || suffix, start_date, end_date);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                   'order_items_p' || suffix, start_date, end_date);
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+
+CREATE TABLE orders (LIKE orders_unpartitioned INCLUDING DEFAULTS)
+    PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items (LIKE order_items_unpartitioned INCLUDING DEFAULTS, order_created_at TIMESTAMP NOT NULL)
+    PARTITION BY RANGE (order_created_at);
+
+-- Partitions from the oldest order through three months ahead
+SELECT create_order_partition(month::date)
+FROM generate_series(
+    date_trunc('month', LEAST((SELECT MIN(created_at) FROM orders_unpartitioned), LOCALTIMESTAMP)),
+    date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months',
+    INTERVAL '1 month'
+) AS month;
+
+INSERT INTO orders SELECT * FROM orders_unpartitioned;
+
+INSERT INTO order_items
+SELECT i.*, o.created_at
+FROM order_items_unpartitioned i
+JOIN orders_unpartitioned o ON o.order_id = i.order_id;
+
+DROP TABLE order_items_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+-- Unique constraints on a partitioned table must include the partition key
+ALTER TABLE orders ADD CONSTRAINT orders_pkey PRIMARY KEY (order_id, created_at);
+ALTER TABLE order_items ADD CONSTRAINT order_items_pkey PRIMARY KEY (item_id, order_created_at);
+ALTER TABLE order_items ADD CONSTRAINT fk_order_items_order
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders(order_id, created_at) ON DELETE CASCADE;
+
+-- Indexes are created on every partition, including ones added later
+
+-- Customer order history and its keyset pages
+CREATE INDEX idx_order_customer_created ON orders(customer_id, created_at, order_id);
+
+-- Unfiltered listings sorted by creation time
+CREATE INDEX idx_order_created_at ON orders(created_at);
+
+-- Listings by status
+CREATE INDEX idx_order_status_created ON orders(status, created_at);
+
+-- Status update job: PENDING orders by age
+CREATE INDEX idx_order_pending_created ON orders(created_at) WHERE status = 'PENDING';
+
+-- Items of an order; the order's created_at lets lookups skip other months
+CREATE INDEX idx_order_item_order_id ON order_items(order_id, order_created_at);
+
+-- Product filter in order search
+CREATE INDEX idx_order_item_product_id ON order_items(product_id);
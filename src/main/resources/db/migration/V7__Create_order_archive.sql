@@ -0,0 +1,19 @@
+-- V7__Create_order_archive.sql
+-- Cold store for terminal (DELIVERED, CANCELLED) orders moved out of orders by OrderArchiver. One row
+-- per order: the lookup columns plus the gzip-compressed order document with its items inlined
+
+CREATE TABLE order_archive (
+    order_id UUID PRIMARY KEY,
+    customer_id VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    document BYTEA NOT NULL
+);
+
+-- Already compressed by the application; skip TOAST compression attempts
+ALTER TABLE order_archive ALTER COLUMN document SET STORAGE EXTERNAL;
+
+-- Customer order history read-through, same shape as idx_order_customer_created
+CREATE INDEX idx_order_archive_customer_created ON order_archive(customer_id, created_at, order_id);
@@ -0,0 +1,17 @@
+-- V8__Add_order_id_to_keyset_indexes.sql
+-- Keyset pages compare (created_at, order_id) as a row. With order_id as the last index column
+-- the comparison bounds the index scan and the order_id tie-break is read in index order, so a
+-- deep page costs the same as the first one. Indexes on a partitioned table cannot be built
+-- CONCURRENTLY; each build blocks writes to orders while it runs
+
+-- Unfiltered keyset pages
+DROP INDEX idx_order_created_at;
+CREATE INDEX idx_order_created_at ON orders(created_at, order_id);
+
+-- Keyset pages by status
+DROP INDEX idx_order_status_created;
+CREATE INDEX idx_order_status_created ON orders(status, created_at, order_id);
+
+-- Status update job and keyset pages of PENDING orders
+DROP INDEX idx_order_pending_created;
+CREATE INDEX idx_order_pending_created ON orders(created_at, order_id) WHERE status = 'PENDING';
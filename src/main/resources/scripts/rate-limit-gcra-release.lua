@@ -0,0 +1,22 @@
+-- Return unused GCRA permits by moving the theoretical arrival time back, never into the past.
+-- KEYS[1] TAT key
+-- ARGV[1] limit, ARGV[2] window in ms, ARGV[3] permits to return
+-- Returns 1 when the key was updated, 0 when it had already expired
+
+local interval = tonumber(ARGV[2]) / tonumber(ARGV[1])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if not tat then
+    return 0
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + tonumber(time[2]) / 1000
+
+local newTat = tat - interval * tonumber(ARGV[3])
+if newTat <= now then
+    redis.call('DEL', KEYS[1])
+else
+    redis.call('SET', KEYS[1], string.format('%.3f', newTat), 'PX', math.ceil(newTat - now))
+end
+return 1
@@ -0,0 +1,31 @@
+-- GCRA rate limiter: stores only the theoretical arrival time (TAT) of the next request.
+-- Allows bursts of up to `limit` requests, refilling at limit / window.
+-- KEYS[1] TAT key
+-- ARGV[1] limit, ARGV[2] window in ms, ARGV[3] permits wanted (granted up to what is available)
+-- Returns {granted, remaining, retry after ms}
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+local interval = window / limit
+
+-- Server time keeps every node on one clock
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + tonumber(time[2]) / 1000
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if not tat or tat < now then
+    tat = now
+end
+
+-- Small epsilon so float rounding cannot hide a permit that is exactly due
+local available = math.floor((now + window - tat) / interval + 1e-6)
+local granted = math.min(permits, available)
+
+if granted < 1 then
+    return {0, 0, math.max(math.ceil(tat + interval - window - now), 1)}
+end
+
+local newTat = tat + interval * granted
+redis.call('SET', KEYS[1], string.format('%.3f', newTat), 'PX', math.ceil(newTat - now))
+return {granted, available - granted, 0}
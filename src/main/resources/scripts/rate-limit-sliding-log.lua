@@ -0,0 +1,35 @@
+-- Sliding-log rate limiter: one sorted-set member per admitted request, scored by its time.
+-- KEYS[1] log key
+-- ARGV[1] limit, ARGV[2] window in ms, ARGV[3] unique member prefix for this call,
+-- ARGV[4] permits wanted (granted up to what the window still allows)
+-- Returns {granted, remaining, retry after ms}
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[4])
+
+-- Server time keeps every node on one clock
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+local count = redis.call('ZCARD', KEYS[1])
+local granted = math.min(permits, limit - count)
+
+if granted > 0 then
+    local members = {}
+    for i = 1, granted do
+        members[#members + 1] = now
+        members[#members + 1] = ARGV[3] .. ':' .. i
+    end
+    redis.call('ZADD', KEYS[1], unpack(members))
+    redis.call('PEXPIRE', KEYS[1], window)
+    return {granted, limit - count - granted, 0}
+end
+
+local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+local retryAfter = window
+if oldest[2] then
+    retryAfter = math.max(tonumber(oldest[2]) + window - now, 1)
+end
+return {0, 0, retryAfter}
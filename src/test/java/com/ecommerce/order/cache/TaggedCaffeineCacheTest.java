@@ -0,0 +1,78 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaggedCaffeineCacheTest {
+
+    private TaggedCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheTagIndex tagIndex = new CacheTagIndex(OrderCacheKeys::searchTags);
+        cache = new TaggedCaffeineCache("order-search", Caffeine.newBuilder().build(), false, tagIndex);
+    }
+
+    @Test
+    void evictTag_ShouldRemoveOnlyPagesOfThatTag() {
+        // Given
+        String customerPage0 = OrderCacheKeys.customerOrders("CUST001", PageRequest.of(0, 20));
+        String customerPage1 = OrderCacheKeys.customerOrders("CUST001", PageRequest.of(1, 20));
+        String otherCustomerPage = OrderCacheKeys.customerOrders("CUST002", PageRequest.of(0, 20));
+        String statusPage = OrderCacheKeys.statusOrders(OrderStatus.PENDING, PageRequest.of(0, 20));
+        
+        cache.put(customerPage0, "a");
+        cache.put(customerPage1, "b");
+        cache.put(otherCustomerPage, "c");
+        cache.put(statusPage, "d");
+
+        // When
+        cache.evictTag(OrderCacheKeys.customerTag("CUST001"));
+
+        // Then
+        assertThat(cache.get(customerPage0)).isNull();
+        assertThat(cache.get(customerPage1)).isNull();
+        assertThat(cache.get(otherCustomerPage)).isNotNull();
+        assertThat(cache.get(statusPage)).isNotNull();
+    }
+
+    @Test
+    void evictTag_ShouldRemovePagesLoadedByRefreshAheadCache() {
+        // Given
+        CacheTagIndex tagIndex = new CacheTagIndex(OrderCacheKeys::searchTags);
+        TaggedCaffeineCache loadingCache = new TaggedCaffeineCache("order-search",
+                Caffeine.newBuilder().build(key -> "loaded"), false, tagIndex);
+        String customerPage = OrderCacheKeys.customerOrders("CUST001",
+                PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(loadingCache.get(customerPage).get()).isEqualTo("loaded");
+
+        // When
+        loadingCache.evictTag(OrderCacheKeys.customerTag("CUST001"));
+
+        // Then
+        assertThat(loadingCache.getNativeCache().getIfPresent(customerPage)).isNull();
+    }
+
+    @Test
+    void parseSearchKey_ShouldRecoverTagAndPageRequest() {
+        // Given
+        PageRequest pageable = PageRequest.of(3, 50, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by("orderId")));
+        String key = OrderCacheKeys.statusOrders(OrderStatus.SHIPPED, pageable);
+
+        // When
+        OrderCacheKeys.SearchPage page = OrderCacheKeys.parseSearchKey(key);
+
+        // Then
+        assertThat(page).isNotNull();
+        assertThat(page.tag()).isEqualTo(OrderCacheKeys.statusTag(OrderStatus.SHIPPED));
+        assertThat(page.pageable()).isEqualTo(pageable);
+        assertThat(OrderCacheKeys.parseSearchKey("not-a-page-key")).isNull();
+    }
+}
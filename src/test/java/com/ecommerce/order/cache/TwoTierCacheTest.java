@@ -0,0 +1,86 @@
+package com.ecommerce.order.cache;
+
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TwoTierCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CaffeineCache local;
+    private ConcurrentMapCache remote;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = new CaffeineCache("orders", Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .ticker(nanos::get)
+                .build(), false);
+        remote = new ConcurrentMapCache("orders", false);
+        CacheRefreshAhead refreshAhead = new CacheRefreshAhead(Duration.ofMinutes(45), Runnable::run, key -> {
+            loads.incrementAndGet();
+            return "from-database";
+        });
+        cache = new TwoTierCache(local, remote, mock(CacheInvalidationBus.class),
+                new HotPathMetrics(new SimpleMeterRegistry()), refreshAhead);
+    }
+
+    @Test
+    void get_WithStaleEntry_ShouldRefreshFromSharedTierFirst() {
+        // Given
+        local.put("order-1", "old");
+        remote.put("order-1", "from-peer");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(50));
+
+        // When
+        Object served = cache.get("order-1").get();
+
+        // Then
+        assertThat(served).isEqualTo("old");
+        assertThat(local.get("order-1").get()).isEqualTo("from-peer");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void get_WithStaleEntryMissingFromSharedTier_ShouldReloadAndWriteBack() {
+        // Given
+        local.put("order-1", "old");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(50));
+
+        // When
+        cache.get("order-1");
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(local.get("order-1").get()).isEqualTo("from-database");
+        assertThat(remote.get("order-1").get()).isEqualTo("from-database");
+    }
+
+    @Test
+    void get_WithFreshEntry_ShouldNotRefresh() {
+        // Given
+        local.put("order-1", "current");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        // When
+        cache.get("order-1");
+
+        // Then
+        assertThat(loads).hasValue(0);
+        assertThat(remote.get("order-1")).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.order.security;
+
+import com.ecommerce.order.model.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpiration", 86400L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "issuer", "test-issuer");
+        ReflectionTestUtils.setField(jwtTokenProvider, "verificationCacheMaxSize", 100L);
+        jwtTokenProvider.init();
+
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .username("john")
+                .email("john@example.com")
+                .password("secret")
+                .roles(Set.of("USER"))
+                .build();
+    }
+
+    @Test
+    void resolveClaims_ShouldReturnSameClaimsForRepeatedToken() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken(user);
+
+        // When
+        Claims first = jwtTokenProvider.resolveClaims(token);
+        Claims second = jwtTokenProvider.resolveClaims(token);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(first.getSubject()).isEqualTo("john");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void resolveClaims_ShouldRejectTamperedToken() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken(user);
+        jwtTokenProvider.resolveClaims(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When
+        Claims claims = jwtTokenProvider.resolveClaims(tampered);
+
+        // Then
+        assertThat(claims).isNull();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.order.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitPolicyResolverTest {
+
+    private RateLimitPolicyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitPolicyProperties properties = new RateLimitPolicyProperties();
+        properties.setPolicies(List.of(
+                policy("admin", "/**", Set.of(), Set.of("ADMIN"), 1000),
+                policy("order-by-id", "/api/v1/orders/{orderId}", Set.of("GET"), Set.of(), 300),
+                policy("order-writes", "/api/v1/orders/**", Set.of("POST", "PATCH"), Set.of(), 60)));
+        resolver = new RateLimitPolicyResolver(properties, 100, 1);
+    }
+
+    @Test
+    void resolve_ShouldShareOnePolicyAcrossPathVariables() {
+        // Given
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/v1/orders/0b5f4c1e-7f1a-4d5e-9a47-1c2b3d4e5f60");
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/v1/orders/6e0c9f7a-2b3d-4c5e-8f90-a1b2c3d4e5f6");
+        Authentication user = authentication("ROLE_USER");
+
+        // When / Then
+        assertThat(resolver.resolve(first, user).name()).isEqualTo("order-by-id");
+        assertThat(resolver.resolve(second, user)).isSameAs(resolver.resolve(first, user));
+    }
+
+    @Test
+    void resolve_ShouldMatchByMethodAndRoleInDeclaredOrder() {
+        // Given
+        MockHttpServletRequest patch = new MockHttpServletRequest("PATCH", "/api/v1/orders/123/status");
+        MockHttpServletRequest delete = new MockHttpServletRequest("DELETE", "/api/v1/orders/123");
+
+        // When / Then
+        assertThat(resolver.resolve(patch, authentication("ROLE_USER")).limit()).isEqualTo(60);
+        assertThat(resolver.resolve(patch, authentication("ROLE_ADMIN")).name()).isEqualTo("admin");
+        assertThat(resolver.resolve(delete, null)).isSameAs(resolver.getDefaultPolicy());
+    }
+
+    private static RateLimitPolicyProperties.Policy policy(String name, String pattern, Set<String> methods,
+                                                           Set<String> roles, int requestsPerMinute) {
+        RateLimitPolicyProperties.Policy policy = new RateLimitPolicyProperties.Policy();
+        policy.setName(name);
+        policy.setPattern(pattern);
+        policy.setMethods(methods);
+        policy.setRoles(roles);
+        policy.setRequestsPerMinute(requestsPerMinute);
+        return policy;
+    }
+
+    private static Authentication authentication(String authority) {
+        return new UsernamePasswordAuthenticationToken("john", null, List.of(new SimpleGrantedAuthority(authority)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.model.entity.Order;
+import com.ecommerce.order.model.enums.ExportFormat;
+import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.search.OrderSearchCriteria;
+import com.ecommerce.order.service.impl.OrderExportServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderExportServiceImpl exportService;
+
+    private OrderSearchCriteria criteria;
+    private Order delivered;
+    private Order pending;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new OrderExportServiceImpl(orderRepository, entityManager, new ObjectMapper());
+        ReflectionTestUtils.setField(exportService, "flushInterval", 1000);
+        criteria = OrderSearchCriteria.builder().build();
+
+        delivered = Order.builder()
+                .orderId(UUID.randomUUID())
+                .customerId("CUST001")
+                .customerName("Doe, Jane")
+                .status(OrderStatus.DELIVERED)
+                .totalAmount(new BigDecimal("120.50"))
+                .currency("USD")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .build();
+        pending = Order.builder()
+                .orderId(UUID.randomUUID())
+                .customerId("CUST002")
+                .customerName("Said \"Hi\"")
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("9.99"))
+                .currency("EUR")
+                .createdAt(LocalDateTime.of(2024, 1, 16, 8, 30))
+                .build();
+    }
+
+    @Test
+    void exportOrders_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Given
+        when(orderRepository.streamSearchOrders(criteria))
+                .thenReturn(Stream.of(delivered, pending));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportOrders(criteria, ExportFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("orderId").asText()).isEqualTo(delivered.getOrderId().toString());
+        assertThat(first.get("status").asText()).isEqualTo("DELIVERED");
+        assertThat(first.get("totalAmount").decimalValue()).isEqualByComparingTo("120.50");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-15T10:00");
+        assertThat(new ObjectMapper().readTree(lines[1]).get("customerId").asText()).isEqualTo("CUST002");
+        verify(entityManager).detach(delivered);
+        verify(entityManager).detach(pending);
+    }
+
+    @Test
+    void exportOrders_AsCsv_ShouldWriteHeaderAndQuoteSpecialValues() throws Exception {
+        // Given
+        when(orderRepository.streamSearchOrders(criteria))
+                .thenReturn(Stream.of(delivered, pending));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportOrders(criteria, ExportFormat.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("order_id,customer_id,customer_email,customer_name,status,total_amount");
+        assertThat(lines[1]).startsWith(delivered.getOrderId() + ",CUST001,,\"Doe, Jane\",DELIVERED,120.50,USD");
+        assertThat(lines[2]).contains(",\"Said \"\"Hi\"\"\",PENDING,9.99,EUR");
+    }
+}
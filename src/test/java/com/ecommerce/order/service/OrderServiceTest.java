@@ -1,27 +1,51 @@
 package com.ecommerce.order.service;
 
+import com.ecommerce.order.archive.OrderArchive;
+import com.ecommerce.order.cache.OrderCacheInvalidator;
+import com.ecommerce.order.event.OrderEventPublisher;
 import com.ecommerce.order.exception.OrderNotFoundException;
 import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.model.dto.request.BatchCreateOrderRequest;
 import com.ecommerce.order.model.dto.request.CreateOrderRequest;
+import com.ecommerce.order.model.dto.response.BatchOrderResponse;
+import com.ecommerce.order.model.dto.response.CursorPageResponse;
 import com.ecommerce.order.model.dto.response.OrderResponse;
+import com.ecommerce.order.model.dto.response.OrderStatisticsResponse;
 import com.ecommerce.order.model.entity.Order;
 import com.ecommerce.order.model.enums.OrderStatus;
+import com.ecommerce.order.monitoring.HotPathMetrics;
+import com.ecommerce.order.pagination.OrderCursor;
+import com.ecommerce.order.repository.CustomerOrderStatsRepository;
 import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.repository.OrderStatusAggregate;
+import com.ecommerce.order.search.OrderSearchCriteria;
 import com.ecommerce.order.service.impl.OrderServiceImpl;
+import com.ecommerce.order.statistics.CustomerOrderStatsRollup;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +57,27 @@ class OrderServiceTest {
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private OrderEventPublisher eventPublisher;
+
+    @Mock
+    private CustomerOrderStatsRepository statsRepository;
+
+    @Mock
+    private CustomerOrderStatsRollup statsRollup;
+
+    @Mock
+    private OrderCacheInvalidator cacheInvalidator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private HotPathMetrics metrics;
+
+    @Mock
+    private OrderArchive orderArchive;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -96,6 +141,20 @@ class OrderServiceTest {
         verify(orderMapper, never()).toOrderResponse(any());
     }
 
+    @Test
+    void getOrderById_WhenOrderArchived_ShouldReadFromArchive() {
+        // Given
+        when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.empty());
+        when(orderArchive.findOrder(orderId)).thenReturn(Optional.of(testOrderResponse));
+
+        // When
+        OrderResponse result = orderService.getOrderById(orderId);
+
+        // Then
+        assertThat(result).isSameAs(testOrderResponse);
+        verify(orderMapper, never()).toOrderResponse(any());
+    }
+
     @Test
     void cancelOrder_WhenOrderCanBeCancelled_ShouldCancelSuccessfully() {
         // Given
@@ -113,6 +172,130 @@ class OrderServiceTest {
         assertThat(result).isNotNull();
         verify(orderRepository, times(1)).findById(orderId);
         verify(orderRepository, times(1)).save(testOrder);
+        verify(eventPublisher, times(1)).publishOrderCancelled(testOrder, OrderStatus.PENDING);
+        verify(statsRollup, times(1)).statusChanged(testOrder, OrderStatus.PENDING, OrderStatus.CANCELLED);
+        verify(cacheInvalidator, times(1)).orderUpdated(testOrder, OrderStatus.PENDING);
         assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createOrders_ShouldPersistAndFlushInChunksOfBatchSize() {
+        // Given
+        ReflectionTestUtils.setField(orderService, "jdbcBatchSize", 2);
+        
+        CreateOrderRequest.OrderItemRequest item = CreateOrderRequest.OrderItemRequest.builder()
+                .productId("PROD001")
+                .productName("Test Product")
+                .quantity(2)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+        
+        CreateOrderRequest orderRequest = CreateOrderRequest.builder()
+                .customerId("CUST001")
+                .items(List.of(item))
+                .build();
+        
+        BatchCreateOrderRequest request = BatchCreateOrderRequest.builder()
+                .orders(List.of(orderRequest, orderRequest, orderRequest))
+                .build();
+
+        // When
+        BatchOrderResponse result = orderService.createOrders(request, "admin");
+
+        // Then
+        assertThat(result.getCreatedCount()).isEqualTo(3);
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("60.00");
+        verify(entityManager, times(3)).persist(any(Order.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher, times(3)).publishOrderCreated(any(Order.class), eq("admin"));
+        verify(statsRollup, times(1)).apply(any(CustomerOrderStatsRollup.Changes.class));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void scrollAllOrders_WhenMoreRowsThanPageSize_ShouldReturnCursorOfLastKeptRow() {
+        // Given
+        ReflectionTestUtils.setField(orderService, "maxPageSize", 100);
+        
+        Order newest = Order.builder().orderId(UUID.randomUUID())
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 0)).build();
+        Order middle = Order.builder().orderId(UUID.randomUUID())
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 0)).build();
+        Order lookahead = Order.builder().orderId(UUID.randomUUID())
+                .createdAt(LocalDateTime.of(2024, 1, 15, 8, 0)).build();
+        
+        when(orderRepository.findPageAfter(
+                OrderCursor.FIRST.getCreatedAt(), OrderCursor.FIRST.getOrderId(), PageRequest.ofSize(3)))
+                .thenReturn(List.of(newest, middle, lookahead));
+        when(orderMapper.toOrderResponse(any(Order.class))).thenReturn(testOrderResponse);
+
+        // When
+        CursorPageResponse<OrderResponse> result = orderService.scrollAllOrders(null, 2);
+
+        // Then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(OrderCursor.decode(result.getNextCursor())).isEqualTo(OrderCursor.after(middle));
+        verify(orderMapper, never()).toOrderResponse(lookahead);
+    }
+
+    @Test
+    void searchOrders_ShouldAddIndexedTieBreakToRequestedSort() {
+        // Given
+        OrderSearchCriteria criteria = OrderSearchCriteria.of(
+                "CUST001", List.of("PENDING", "SHIPPED"), null, null, null, null, null, null);
+        when(orderRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        // When
+        orderService.searchOrders(criteria, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "status")));
+
+        // Then
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(orderRepository).findAll(any(Specification.class), pageable.capture());
+        assertThat(pageable.getValue().getSort()).containsExactly(
+                Sort.Order.asc("status"), Sort.Order.desc("createdAt"), Sort.Order.desc("orderId"));
+    }
+
+    @Test
+    void searchOrders_WithUnindexedSortField_ShouldThrowException() {
+        // Given
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder().build();
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.searchOrders(criteria, PageRequest.of(0, 10, Sort.by("notes"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("notes");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void getOrderStatistics_ShouldBuildTotalsFromRollup() {
+        // Given
+        OrderStatusAggregate delivered = mock(OrderStatusAggregate.class);
+        when(delivered.getStatus()).thenReturn(OrderStatus.DELIVERED);
+        when(delivered.getOrderCount()).thenReturn(3L);
+        when(delivered.getTotalAmount()).thenReturn(new BigDecimal("300.00"));
+        
+        OrderStatusAggregate pending = mock(OrderStatusAggregate.class);
+        when(pending.getStatus()).thenReturn(OrderStatus.PENDING);
+        when(pending.getOrderCount()).thenReturn(1L);
+        when(pending.getTotalAmount()).thenReturn(new BigDecimal("50.00"));
+        
+        when(statsRepository.findStatusAggregates("CUST001")).thenReturn(List.of(delivered, pending));
+
+        // When
+        OrderStatisticsResponse result = orderService.getOrderStatistics("CUST001");
+
+        // Then
+        assertThat(result.getTotalOrders()).isEqualTo(4);
+        assertThat(result.getDeliveredOrders()).isEqualTo(3);
+        assertThat(result.getPendingOrders()).isEqualTo(1);
+        assertThat(result.getCancelledOrders()).isZero();
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("350.00");
+        assertThat(result.getAverageAmount()).isEqualByComparingTo("87.50");
+        assertThat(result.getByStatus().get(OrderStatus.DELIVERED).getAverageAmount()).isEqualByComparingTo("100.00");
+        verify(statsRepository, times(1)).findStatusAggregates("CUST001");
+        verifyNoInteractions(orderRepository);
+    }
+}